@@ -0,0 +1,65 @@
+package my.norxiva.myrrha.util.json.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+/**
+ * {@code GenericJacksonBinaryRedisSerializer} is the binary counterpart of
+ * {@code GenericJackson2JsonRedisSerializer}: it stores any value in a binary Jackson
+ * format along with its {@code @class}, so that it can be read back without knowing
+ * the type, and cache {@code NullValue}s are kept.
+ */
+public class GenericJacksonBinaryRedisSerializer implements RedisSerializer<Object> {
+  private static final String CLASS_PROPERTY = "@class";
+
+  private final JacksonBinaryRedisSerializer<Object> delegate;
+
+  public GenericJacksonBinaryRedisSerializer() {
+    this(JacksonBinaryFormat.SMILE);
+  }
+
+  public GenericJacksonBinaryRedisSerializer(JacksonBinaryFormat format) {
+    ObjectMapper objectMapper = format.getObjectMapper().copy();
+    objectMapper.enableDefaultTypingAsProperty(ObjectMapper.DefaultTyping.NON_FINAL, CLASS_PROPERTY);
+    objectMapper.registerModule(new SimpleModule().addSerializer(new NullValueSerializer()));
+    this.delegate = new JacksonBinaryRedisSerializer<>(objectMapper, objectMapper.constructType(Object.class));
+  }
+
+  @Override
+  public byte[] serialize(Object value) throws SerializationException {
+    return delegate.serialize(value);
+  }
+
+  @Override
+  public Object deserialize(byte[] bytes) throws SerializationException {
+    Object value = delegate.deserialize(bytes);
+    // caches compare against the NullValue singleton
+    return value instanceof NullValue ? NullValue.INSTANCE : value;
+  }
+
+  /**
+   * {@code NullValue} is final, so default typing would not write its class.
+   */
+  private static class NullValueSerializer extends StdSerializer<NullValue> {
+
+    NullValueSerializer() {
+      super(NullValue.class);
+    }
+
+    @Override
+    public void serialize(NullValue value, JsonGenerator generator, SerializerProvider provider)
+        throws IOException {
+      generator.writeStartObject();
+      generator.writeStringField(CLASS_PROPERTY, NullValue.class.getName());
+      generator.writeEndObject();
+    }
+  }
+}
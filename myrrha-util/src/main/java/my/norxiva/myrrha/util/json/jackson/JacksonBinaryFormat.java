@@ -0,0 +1,35 @@
+package my.norxiva.myrrha.util.json.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * {@code JacksonBinaryFormat} lists the binary Jackson formats, each with an
+ * {@code ObjectMapper} configured as {@link JacksonProvider#DEFAULT_OBJECT_MAPPER}.
+ */
+public enum JacksonBinaryFormat {
+
+  /**
+   * Smile, which also back-references repeated property names and short values.
+   */
+  SMILE(JacksonProvider.createObjectMapper(new SmileFactory())),
+
+  /**
+   * CBOR (RFC 7049), readable by non-Jackson clients.
+   */
+  CBOR(JacksonProvider.createObjectMapper(new CBORFactory()));
+
+  private final ObjectMapper objectMapper;
+
+  JacksonBinaryFormat(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Shared mapper of the format, copy it before changing its configuration.
+   */
+  public ObjectMapper getObjectMapper() {
+    return objectMapper;
+  }
+}
@@ -0,0 +1,69 @@
+package my.norxiva.myrrha.util.json.jackson;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+/**
+ * {@code JacksonBinaryRedisSerializer} stores values of a single type in a binary
+ * Jackson format, Smile by default.
+ *
+ * <p>The {@code ObjectReader} and {@code ObjectWriter} are resolved once for the type,
+ * and values are read from and written to {@code byte[]} directly.
+ */
+public class JacksonBinaryRedisSerializer<T> implements RedisSerializer<T> {
+  private static final byte[] EMPTY_ARRAY = new byte[0];
+
+  private final JavaType type;
+  private final ObjectReader reader;
+  private final ObjectWriter writer;
+
+  public JacksonBinaryRedisSerializer(Class<T> type) {
+    this(JacksonBinaryFormat.SMILE, type);
+  }
+
+  public JacksonBinaryRedisSerializer(JacksonBinaryFormat format, Class<T> type) {
+    this(format.getObjectMapper(), format.getObjectMapper().constructType(type));
+  }
+
+  /**
+   * Create the serializer for a generic type, e.g. built with the mapper's {@code TypeFactory}.
+   */
+  public JacksonBinaryRedisSerializer(ObjectMapper objectMapper, JavaType type) {
+    this.type = type;
+    this.reader = objectMapper.readerFor(type);
+    this.writer = objectMapper.writerFor(type);
+  }
+
+  @Override
+  public byte[] serialize(T value) throws SerializationException {
+    if (value == null) {
+      return EMPTY_ARRAY;
+    }
+
+    try {
+      return writer.writeValueAsBytes(value);
+    } catch (JsonProcessingException err) {
+      throw new SerializationException("Could not write " + type + ": " + err.getMessage(), err);
+    }
+  }
+
+  @Override
+  public T deserialize(byte[] bytes) throws SerializationException {
+    if (bytes == null || bytes.length == 0) {
+      return null;
+    }
+
+    try {
+      return reader.readValue(bytes);
+    } catch (IOException err) {
+      throw new SerializationException("Could not read " + type + ": " + err.getMessage(), err);
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package my.norxiva.myrrha.util.json.jackson;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -24,10 +25,22 @@ import java.util.Map;
  */
 @Slf4j
 public class JacksonProvider implements JsonProvider {
-  public static final ObjectMapper DEFAULT_OBJECT_MAPPER = initObjectMapper();
+  public static final ObjectMapper DEFAULT_OBJECT_MAPPER = createObjectMapper(new JsonFactory());
 
-  private static ObjectMapper initObjectMapper() {
-    ObjectMapper objectMapper = new ObjectMapper();
+  /**
+   * Create an {@code ObjectMapper} configured as {@link #DEFAULT_OBJECT_MAPPER}
+   * on top of another format, such as Smile or CBOR.
+   *
+   * <p>The factory must not have a codec yet, the mapper sets itself as its codec so that
+   * custom (de)serializers reading or writing through the parser or generator get the same
+   * configuration.
+   */
+  public static ObjectMapper createObjectMapper(JsonFactory jsonFactory) {
+    if (jsonFactory.getCodec() != null) {
+      throw new IllegalArgumentException("Json factory already has a codec " + jsonFactory.getCodec());
+    }
+
+    ObjectMapper objectMapper = new ObjectMapper(jsonFactory);
     objectMapper.registerModule(new Jdk8Module());
     objectMapper.registerModule(new JavaTimeModule());
     objectMapper.registerModule(new GuavaModule());
@@ -0,0 +1,67 @@
+package my.norxiva.myrrha.util.json.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.cache.support.NullValue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public class JacksonBinaryRedisSerializerTests {
+
+  @Test
+  public void testDefaultObjectMapperIsItsFactoryCodec() throws IOException {
+    Assert.assertSame(JacksonProvider.DEFAULT_OBJECT_MAPPER,
+        JacksonProvider.DEFAULT_OBJECT_MAPPER.getFactory().getCodec());
+
+    JsonParser parser = JacksonProvider.DEFAULT_OBJECT_MAPPER.getFactory().createParser("\"2020-01-02\"");
+    Assert.assertEquals(LocalDate.of(2020, 1, 2), parser.readValueAs(LocalDate.class));
+  }
+
+  @Test
+  public void testRoundTrip() {
+    for (JacksonBinaryFormat format : JacksonBinaryFormat.values()) {
+      Assert.assertSame(format.getObjectMapper(), format.getObjectMapper().getFactory().getCodec());
+
+      JacksonBinaryRedisSerializer<Order> serializer = new JacksonBinaryRedisSerializer<>(format, Order.class);
+      Order order = order();
+      Assert.assertEquals(order, serializer.deserialize(serializer.serialize(order)));
+
+      Assert.assertEquals(0, serializer.serialize(null).length);
+      Assert.assertNull(serializer.deserialize(new byte[0]));
+    }
+  }
+
+  @Test
+  public void testGenericRoundTrip() {
+    for (JacksonBinaryFormat format : JacksonBinaryFormat.values()) {
+      GenericJacksonBinaryRedisSerializer serializer = new GenericJacksonBinaryRedisSerializer(format);
+
+      byte[] bytes = serializer.serialize(order());
+      Assert.assertTrue(new String(bytes, StandardCharsets.ISO_8859_1).contains(Order.class.getName()));
+      Assert.assertEquals(order(), serializer.deserialize(bytes));
+
+      Assert.assertSame(NullValue.INSTANCE, serializer.deserialize(serializer.serialize(NullValue.INSTANCE)));
+    }
+  }
+
+  private static Order order() {
+    Order order = new Order();
+    order.setOrderNo("20200102000001");
+    order.setCreatedAt(LocalDateTime.of(2020, 1, 2, 3, 4, 5));
+    order.setSettledOn(Optional.of(LocalDate.of(2020, 1, 3)));
+    return order;
+  }
+
+  @Data
+  public static class Order {
+    private String orderNo;
+    private LocalDateTime createdAt;
+    private Optional<LocalDate> settledOn;
+  }
+}
@@ -2,23 +2,28 @@ package org.springframework.boot.autoconfigure.cache;
 
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.core.RedisTemplate;
 
 @Slf4j
 @Configuration
-@AutoConfigureBefore(RedisCacheConfiguration.class)
+@AutoConfigureAfter(RedisAutoConfiguration.class)
+@AutoConfigureBefore({CacheAutoConfiguration.class, RedisCacheConfiguration.class})
 @ConditionalOnBean(RedisTemplate.class)
 @Conditional(CacheCondition.class)
-@EnableConfigurationProperties(RedisCacheExtraProperties.class)
+@EnableConfigurationProperties({RedisCacheExtraProperties.class, CacheProperties.class})
 public class RedisCacheExtraConfiguration {
 
     private RedisCacheExtraProperties properties;
@@ -31,4 +36,26 @@ public class RedisCacheExtraConfiguration {
     public RedisCacheExtraManagerCustomizer redisCacheExtraManagerCustomizer() {
         return new RedisCacheExtraManagerCustomizer(properties.getExpires());
     }
+
+    /**
+     * Replaces the cache manager of {@link RedisCacheConfiguration} with one compressing the configured caches.
+     * {@link CacheAutoConfiguration} then backs off, so its customizers are only applied when already present.
+     */
+    @Bean
+    @ConditionalOnMissingBean(CacheManager.class)
+    @ConditionalOnProperty(prefix = "spring.cache.redis.extra.compression", name = "enabled", havingValue = "true")
+    public RedisCacheManager cacheManager(RedisTemplate<Object, Object> redisTemplate, CacheProperties cacheProperties,
+                                         ObjectProvider<CacheManagerCustomizers> customizers) {
+        RedisCacheExtraProperties.Compression compression = properties.getCompression();
+        RedisCacheExtraManager cacheManager = new RedisCacheExtraManager(redisTemplate,
+                compression.getCacheNames(), compression.getCodec(), compression.getThreshold());
+        cacheManager.setUsePrefix(true);
+        if (!cacheProperties.getCacheNames().isEmpty()) {
+            cacheManager.setCacheNames(cacheProperties.getCacheNames());
+        }
+        redisCacheExtraManagerCustomizer().customize(cacheManager);
+
+        CacheManagerCustomizers invoker = customizers.getIfAvailable();
+        return invoker != null ? invoker.customize(cacheManager) : cacheManager;
+    }
 }
@@ -0,0 +1,61 @@
+package org.springframework.boot.autoconfigure.cache;
+
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.CompressingRedisSerializer;
+import org.springframework.data.redis.serializer.CompressionCodec;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * {@link RedisCacheManager} storing the values of the named caches through a copy of the template whose value
+ * serializers compress with a {@link CompressingRedisSerializer}.
+ */
+public class RedisCacheExtraManager extends RedisCacheManager {
+
+    private final Set<String> compressedCacheNames;
+    private final RedisTemplate<Object, Object> compressingTemplate;
+
+    public RedisCacheExtraManager(RedisTemplate<Object, Object> redisTemplate, Set<String> compressedCacheNames,
+                                  CompressionCodec codec, int threshold) {
+        super(redisTemplate);
+        this.compressedCacheNames = new HashSet<>(compressedCacheNames);
+        this.compressingTemplate = compressingTemplate(redisTemplate, codec, threshold);
+    }
+
+    @Override
+    protected RedisCache createCache(String cacheName) {
+        if (!compressedCacheNames.contains(cacheName)) {
+            return super.createCache(cacheName);
+        }
+
+        return new RedisCache(cacheName, isUsePrefix() ? getCachePrefix().prefix(cacheName) : null,
+                compressingTemplate, computeExpiration(cacheName));
+    }
+
+    private static RedisTemplate<Object, Object> compressingTemplate(RedisTemplate<Object, Object> redisTemplate,
+                                                                     CompressionCodec codec, int threshold) {
+        RedisTemplate<Object, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisTemplate.getConnectionFactory());
+        template.setKeySerializer(redisTemplate.getKeySerializer());
+        template.setHashKeySerializer(redisTemplate.getHashKeySerializer());
+        template.setValueSerializer(compress(redisTemplate.getValueSerializer(), codec, threshold));
+        template.setHashValueSerializer(compress(redisTemplate.getHashValueSerializer(), codec, threshold));
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    /**
+     * Leaves serializers already compressing, e.g. by {@code spring.redis.jodis.compression}, as they are.
+     */
+    private static <T> RedisSerializer<T> compress(RedisSerializer<T> serializer, CompressionCodec codec,
+                                                   int threshold) {
+        if (serializer == null || serializer instanceof CompressingRedisSerializer) {
+            return serializer;
+        }
+        return new CompressingRedisSerializer<>(serializer, codec, threshold);
+    }
+}
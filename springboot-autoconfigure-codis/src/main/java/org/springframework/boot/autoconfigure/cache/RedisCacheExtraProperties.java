@@ -3,9 +3,12 @@ package org.springframework.boot.autoconfigure.cache;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.data.redis.serializer.CompressionCodec;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import static org.springframework.boot.autoconfigure.cache.RedisCacheExtraProperties.PREFIX;
 
@@ -16,4 +19,15 @@ public class RedisCacheExtraProperties {
     public static final String PREFIX = "spring.cache.redis.extra";
 
     private Map<String, Long> expires = new HashMap<>();
+
+    private Compression compression = new Compression();
+
+    @Getter
+    @Setter
+    public static class Compression {
+        private boolean enabled;
+        private Set<String> cacheNames = new HashSet<>();
+        private CompressionCodec codec = CompressionCodec.LZ4;
+        private int threshold = 4096;
+    }
 }
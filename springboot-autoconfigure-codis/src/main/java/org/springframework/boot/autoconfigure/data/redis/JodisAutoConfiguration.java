@@ -2,6 +2,7 @@ package org.springframework.boot.autoconfigure.data.redis;
 
 import io.codis.jodis.RoundRobinJedisPool;
 import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -10,7 +11,18 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.JodisAsyncCommands;
+import org.springframework.data.redis.connection.JodisAutoPipeliningConfiguration;
+import org.springframework.data.redis.connection.JodisCommandMetrics;
 import org.springframework.data.redis.connection.JodisConfiguration;
+import org.springframework.data.redis.connection.JodisCounterAggregator;
+import org.springframework.data.redis.connection.JodisHotKeySampler;
+import org.springframework.data.redis.connection.JodisLockMetrics;
+import org.springframework.data.redis.connection.JodisNearCacheConfiguration;
+import org.springframework.data.redis.connection.JodisPfAddAccumulator;
+import org.springframework.data.redis.connection.MicrometerJodisCommandMetrics;
+import org.springframework.data.redis.connection.MicrometerJodisLockMetrics;
+import org.springframework.data.redis.connection.MicrometerJodisNearCacheMetrics;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.jedis.JedisConnection;
 import org.springframework.data.redis.connection.jedis.JodisConnectionFactory;
@@ -25,6 +37,67 @@ import redis.clients.jedis.JedisPoolConfig;
 @AutoConfigureBefore(RedisAutoConfiguration.class)
 public class JodisAutoConfiguration {
 
+    @Configuration
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "spring.redis.jodis.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    protected static class JodisMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(JodisCommandMetrics.class)
+        public MicrometerJodisCommandMetrics jodisCommandMetrics() {
+            return new MicrometerJodisCommandMetrics();
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(JodisLockMetrics.class)
+        public MicrometerJodisLockMetrics jodisLockMetrics() {
+            return new MicrometerJodisLockMetrics();
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(MicrometerJodisNearCacheMetrics.class)
+        @ConditionalOnProperty(prefix = "spring.redis.jodis.near-cache", name = "enabled", havingValue = "true")
+        public MicrometerJodisNearCacheMetrics jodisNearCacheMetrics(
+                ObjectProvider<JodisConnectionFactory> connectionFactory) {
+            JodisConnectionFactory factory = connectionFactory.getIfAvailable();
+            return new MicrometerJodisNearCacheMetrics(factory != null ? factory.getNearCache() : null);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "spring.redis.jodis.compression", name = "enabled", havingValue = "true")
+    protected static class JodisCompressionConfiguration {
+
+        @Bean
+        public static JodisCompressionPostProcessor jodisCompressionPostProcessor(JodisProperties jodisProperties) {
+            JodisProperties.Compression props = jodisProperties.getCompression();
+            return new JodisCompressionPostProcessor(props.getTemplates(), props.getCodec(), props.getThreshold());
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "spring.redis.jodis.hot-keys", name = "enabled", havingValue = "true")
+    protected static class JodisHotKeysConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(JodisHotKeySampler.class)
+        public JodisHotKeySampler jodisHotKeySampler(JodisProperties jodisProperties) {
+            JodisProperties.HotKeys props = jodisProperties.getHotKeys();
+            return new JodisHotKeySampler(props.getSampleRate(), props.getCapacity());
+        }
+
+        @Configuration
+        @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.AbstractEndpoint")
+        protected static class JodisHotKeysEndpointConfiguration {
+
+            @Bean
+            @ConditionalOnMissingBean(JodisHotKeysEndpoint.class)
+            public JodisHotKeysEndpoint jodisHotKeysEndpoint(JodisHotKeySampler sampler) {
+                return new JodisHotKeysEndpoint(sampler);
+            }
+        }
+    }
+
     @Configuration
     @ConditionalOnClass(GenericObjectPool.class)
     @ConditionalOnProperty(prefix = "spring.redis.jodis", name = "enabled", havingValue = "true", matchIfMissing = true)
@@ -32,13 +105,22 @@ public class JodisAutoConfiguration {
 
         private final RedisProperties properties;
         private final JodisProperties jodisProperties;
+        private final JodisCommandMetrics commandMetrics;
+        private final JodisLockMetrics lockMetrics;
+        private final JodisHotKeySampler hotKeySampler;
 
         @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
         @Autowired
         public RedisConnectionConfiguration(RedisProperties properties,
-                                            JodisProperties jodisProperties) {
+                                            JodisProperties jodisProperties,
+                                            ObjectProvider<JodisCommandMetrics> commandMetrics,
+                                            ObjectProvider<JodisLockMetrics> lockMetrics,
+                                            ObjectProvider<JodisHotKeySampler> hotKeySampler) {
             this.properties = properties;
             this.jodisProperties = jodisProperties;
+            this.commandMetrics = commandMetrics.getIfAvailable();
+            this.lockMetrics = lockMetrics.getIfAvailable();
+            this.hotKeySampler = hotKeySampler.getIfAvailable();
         }
 
         @Bean
@@ -47,6 +129,29 @@ public class JodisAutoConfiguration {
             return createJodisConnectionFactory();
         }
 
+        @Bean
+        @ConditionalOnMissingBean(JodisPfAddAccumulator.class)
+        @ConditionalOnProperty(prefix = "spring.redis.jodis.pf-add", name = "enabled", havingValue = "true")
+        public JodisPfAddAccumulator jodisPfAddAccumulator(RedisConnectionFactory connectionFactory) {
+            JodisProperties.PfAdd props = jodisProperties.getPfAdd();
+            return new JodisPfAddAccumulator(connectionFactory, props.getFlushIntervalMs(), props.getMaxPendingValues());
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(JodisCounterAggregator.class)
+        @ConditionalOnProperty(prefix = "spring.redis.jodis.counter", name = "enabled", havingValue = "true")
+        public JodisCounterAggregator jodisCounterAggregator(RedisConnectionFactory connectionFactory) {
+            JodisProperties.Counter props = jodisProperties.getCounter();
+            return new JodisCounterAggregator(connectionFactory, props.getFlushIntervalMs(), props.getDeltaThreshold());
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(JodisAsyncCommands.class)
+        @ConditionalOnProperty(prefix = "spring.redis.jodis.async", name = "enabled", havingValue = "true")
+        public JodisAsyncCommands jodisAsyncCommands(JodisConnectionFactory connectionFactory) {
+            return connectionFactory.getAsyncCommands();
+        }
+
         private JodisConfiguration getZookeeperConfig() {
             if (jodisProperties.getConnectString() != null) {
                 JodisConfiguration config = new JodisConfiguration();
@@ -65,7 +170,66 @@ public class JodisAutoConfiguration {
             JedisPoolConfig poolConfig = (this.properties.getPool() != null)
                     ? jedisPoolConfig() : new JedisPoolConfig();
 
-            return new JodisConnectionFactory(getZookeeperConfig(), poolConfig);
+            JodisConnectionFactory factory = new JodisConnectionFactory(getZookeeperConfig(), poolConfig);
+            factory.setPinResource(jodisProperties.isPinResource());
+            factory.setBalancingStrategy(jodisProperties.getBalancingStrategy());
+            factory.setAutoPipeliningConfig(getAutoPipeliningConfig());
+            factory.setScanParallelism(jodisProperties.getScan().getParallelism());
+            factory.setScanPrefetchThreads(jodisProperties.getScan().getPrefetchThreads());
+            factory.setScanPrefetch(jodisProperties.getScan().isPrefetch());
+            factory.setNearCacheConfig(getNearCacheConfig());
+            factory.setCommandMetrics(commandMetrics);
+            factory.setHotKeySampler(hotKeySampler);
+            factory.setLockMetrics(lockMetrics);
+            factory.setLockLeaseMs(jodisProperties.getLock().getLeaseMs());
+            factory.setLockFencing(jodisProperties.getLock().isFencing());
+            factory.setBlockingPoolConfig(getBlockingPoolConfig());
+            factory.setSubscriptionDispatchThreads(jodisProperties.getPubSub().getDispatchThreads());
+            factory.setSubscriptionQueueCapacity(jodisProperties.getPubSub().getQueueCapacity());
+            if (jodisProperties.getAsync().isEnabled()) {
+                factory.setAsyncLanes(jodisProperties.getAsync().getLanes());
+                factory.setAsyncQueueCapacity(jodisProperties.getAsync().getQueueCapacity());
+            }
+            return factory;
+        }
+
+        private JodisAutoPipeliningConfiguration getAutoPipeliningConfig() {
+            JodisProperties.AutoPipelining props = jodisProperties.getAutoPipelining();
+            if (props.isEnabled()) {
+                JodisAutoPipeliningConfiguration config = new JodisAutoPipeliningConfiguration();
+                config.setConnections(props.getConnections());
+                config.setBatchSize(props.getBatchSize());
+                config.setFlushIntervalMicros(props.getFlushIntervalMicros());
+                config.setQueueCapacity(props.getQueueCapacity());
+                config.setTimeoutMs(props.getTimeoutMs());
+                return config;
+            }
+            return null;
+        }
+
+        private JodisNearCacheConfiguration getNearCacheConfig() {
+            JodisProperties.NearCache props = jodisProperties.getNearCache();
+            if (props.isEnabled()) {
+                JodisNearCacheConfiguration config = new JodisNearCacheConfiguration();
+                config.setKeyPrefixes(props.getKeyPrefixes());
+                config.setMaximumSize(props.getMaximumSize());
+                config.setTimeToLiveMs(props.getTimeToLiveMs());
+                return config;
+            }
+            return null;
+        }
+
+        private JedisPoolConfig getBlockingPoolConfig() {
+            JodisProperties.BlockingPool props = jodisProperties.getBlockingPool();
+            if (props.isEnabled()) {
+                JedisPoolConfig config = new JedisPoolConfig();
+                config.setMaxTotal(props.getMaxActive());
+                config.setMaxIdle(props.getMaxIdle());
+                config.setMinIdle(props.getMinIdle());
+                config.setMaxWaitMillis(props.getMaxWait());
+                return config;
+            }
+            return null;
         }
 
         private JedisPoolConfig jedisPoolConfig() {
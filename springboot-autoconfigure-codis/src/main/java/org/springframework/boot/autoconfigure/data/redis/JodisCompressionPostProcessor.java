@@ -0,0 +1,53 @@
+package org.springframework.boot.autoconfigure.data.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.CompressingRedisSerializer;
+import org.springframework.data.redis.serializer.CompressionCodec;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+
+/**
+ * Wraps the value and hash value serializers of the configured {@link RedisTemplate} beans, or of all of them
+ * when none are named, in a {@link CompressingRedisSerializer}.
+ */
+@Slf4j
+public class JodisCompressionPostProcessor implements BeanPostProcessor {
+
+    private final List<String> templates;
+    private final CompressionCodec codec;
+    private final int threshold;
+
+    public JodisCompressionPostProcessor(List<String> templates, CompressionCodec codec, int threshold) {
+        this.templates = templates;
+        this.codec = codec;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof RedisTemplate) || (!templates.isEmpty() && !templates.contains(beanName))) {
+            return bean;
+        }
+
+        RedisTemplate<?, ?> template = (RedisTemplate<?, ?>) bean;
+        template.setValueSerializer(compress(template.getValueSerializer()));
+        template.setHashValueSerializer(compress(template.getHashValueSerializer()));
+        log.info("Compressing values of {} above {} bytes with {}", beanName, threshold, codec);
+        return template;
+    }
+
+    private <T> RedisSerializer<T> compress(RedisSerializer<T> serializer) {
+        if (serializer == null || serializer instanceof CompressingRedisSerializer) {
+            return serializer;
+        }
+        return new CompressingRedisSerializer<>(serializer, codec, threshold);
+    }
+}
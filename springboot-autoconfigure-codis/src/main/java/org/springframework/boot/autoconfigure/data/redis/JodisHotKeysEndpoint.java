@@ -0,0 +1,54 @@
+package org.springframework.boot.autoconfigure.data.redis;
+
+import org.springframework.boot.actuate.endpoint.AbstractEndpoint;
+import org.springframework.data.redis.connection.JodisHotKeySampler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint listing the hottest keys seen by a {@link JodisHotKeySampler}, for the last completed
+ * window and the one in progress, with estimated read and write rates per second.
+ */
+public class JodisHotKeysEndpoint extends AbstractEndpoint<Map<String, Object>> {
+
+    private final JodisHotKeySampler sampler;
+
+    public JodisHotKeysEndpoint(JodisHotKeySampler sampler) {
+        super("jodishotkeys");
+        this.sampler = sampler;
+    }
+
+    @Override
+    public Map<String, Object> invoke() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("sampleRate", sampler.getSampleRate());
+        result.put("windowMs", sampler.getWindowMs());
+        result.put("previous", describe(sampler.getHotKeys(false), false));
+        result.put("current", describe(sampler.getHotKeys(true), true));
+        return result;
+    }
+
+    private List<Map<String, Object>> describe(List<JodisHotKeySampler.HotKey> hotKeys, boolean inProgress) {
+        long now = System.currentTimeMillis();
+        List<Map<String, Object>> described = new ArrayList<>(hotKeys.size());
+        for (JodisHotKeySampler.HotKey hotKey : hotKeys) {
+            // rates of the window in progress are over the time elapsed so far
+            long windowMs = inProgress
+                    ? Math.max(Math.min(now - hotKey.getWindowStart(), sampler.getWindowMs()), 1) : sampler.getWindowMs();
+            double windowSeconds = windowMs / 1000.0;
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("key", new String(hotKey.getKey(), StandardCharsets.UTF_8));
+            entry.put("windowStart", hotKey.getWindowStart());
+            entry.put("count", hotKey.getCount());
+            entry.put("error", hotKey.getError());
+            entry.put("readsPerSecond", hotKey.getReads() / windowSeconds);
+            entry.put("writesPerSecond", hotKey.getWrites() / windowSeconds);
+            described.add(entry);
+        }
+        return described;
+    }
+}
@@ -3,6 +3,11 @@ package org.springframework.boot.autoconfigure.data.redis;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.data.redis.connection.JodisBalancingStrategy;
+import org.springframework.data.redis.serializer.CompressionCodec;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.springframework.boot.autoconfigure.data.redis.JodisProperties.PREFIX;
 
@@ -22,5 +27,130 @@ public class JodisProperties {
 
     private String password;
 
+    private boolean pinResource;
+
+    private JodisBalancingStrategy balancingStrategy = JodisBalancingStrategy.ROUND_ROBIN;
+
+    private AutoPipelining autoPipelining = new AutoPipelining();
+
+    private Scan scan = new Scan();
+
+    private NearCache nearCache = new NearCache();
+
+    private Metrics metrics = new Metrics();
+
+    private PubSub pubSub = new PubSub();
+
+    private PfAdd pfAdd = new PfAdd();
+
+    private Counter counter = new Counter();
+
+    private BlockingPool blockingPool = new BlockingPool();
+
+    private Lock lock = new Lock();
+
+    private HotKeys hotKeys = new HotKeys();
+
+    private Compression compression = new Compression();
+
+    private Async async = new Async();
+
+    @Getter
+    @Setter
+    public static class AutoPipelining {
+        private boolean enabled;
+        private int connections = 2;
+        private int batchSize = 64;
+        private long flushIntervalMicros = 100;
+        private int queueCapacity = 4096;
+        private long timeoutMs = 2000;
+    }
+
+    @Getter
+    @Setter
+    public static class Scan {
+        private int parallelism = 1;
+        private int prefetchThreads = 4;
+        private boolean prefetch;
+    }
+
+    @Getter
+    @Setter
+    public static class NearCache {
+        private boolean enabled;
+        private List<String> keyPrefixes = new ArrayList<>();
+        private int maximumSize = 10000;
+        private long timeToLiveMs = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Metrics {
+        private boolean enabled = true;
+    }
+
+    @Getter
+    @Setter
+    public static class PubSub {
+        private int dispatchThreads = 2;
+        private int queueCapacity = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class PfAdd {
+        private boolean enabled;
+        private long flushIntervalMs = 1000;
+        private int maxPendingValues = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static class Counter {
+        private boolean enabled;
+        private long flushIntervalMs = 1000;
+        private long deltaThreshold;
+    }
+
+    @Getter
+    @Setter
+    public static class BlockingPool {
+        private boolean enabled;
+        private int maxActive = 8;
+        private int maxIdle = 8;
+        private int minIdle = 0;
+        private int maxWait = -1;
+    }
+
+    @Getter
+    @Setter
+    public static class Lock {
+        private long leaseMs = 30000;
+        private boolean fencing;
+    }
+
+    @Getter
+    @Setter
+    public static class HotKeys {
+        private boolean enabled;
+        private int sampleRate = 100;
+        private int capacity = 64;
+    }
+
+    @Getter
+    @Setter
+    public static class Compression {
+        private boolean enabled;
+        private List<String> templates = new ArrayList<>();
+        private CompressionCodec codec = CompressionCodec.LZ4;
+        private int threshold = 4096;
+    }
 
+    @Getter
+    @Setter
+    public static class Async {
+        private boolean enabled;
+        private int lanes = 4;
+        private int queueCapacity = 10000;
+    }
 }
@@ -0,0 +1,219 @@
+package org.springframework.data.redis.connection;
+
+import io.codis.jodis.JedisResourcePool;
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * {@link JedisResourcePool} discovering the online Codis proxies from ZooKeeper like
+ * {@link io.codis.jodis.RoundRobinJedisPool}, but picking the proxy of each borrow by a {@link JodisBalancingStrategy}.
+ * <p>
+ * Latency is measured from borrow to return of a resource, which is the command latency when resources are
+ * borrowed per command. It decays towards zero while a proxy is idle, so a proxy that was slow gets probed again.
+ */
+@Slf4j
+public class BalancedJedisPool implements JedisResourcePool {
+
+    private static final long LATENCY_DECAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final JodisBalancingStrategy strategy;
+    private final JedisPoolConfig poolConfig;
+    private final int connectionTimeoutMs;
+    private final int soTimeoutMs;
+    private final String password;
+
+    private final CodisProxyDirectory proxyDirectory;
+    private final AtomicInteger nextIdx = new AtomicInteger();
+    private volatile List<ProxyPool> pools = Collections.emptyList();
+
+    public BalancedJedisPool(JodisConfiguration config, JedisPoolConfig poolConfig, JodisBalancingStrategy strategy) {
+        this.strategy = strategy;
+        this.poolConfig = poolConfig;
+        this.connectionTimeoutMs = config.getConnectionTimeoutMs();
+        this.soTimeoutMs = config.getSoTimeoutMs();
+        this.password = config.getPassword() == null || config.getPassword().isEmpty() ? null : config.getPassword();
+
+        this.proxyDirectory = new CodisProxyDirectory(config, this::resetPools);
+        resetPools(proxyDirectory.getOnlineProxies());
+    }
+
+    @Override
+    public Jedis getResource() {
+        List<ProxyPool> candidates = pools;
+        if (candidates.isEmpty()) {
+            throw new JedisException("Proxy list empty");
+        }
+
+        int offset = nextIdx.getAndIncrement() & Integer.MAX_VALUE;
+        return candidates.get(select(candidates, pool -> pool.load, offset, strategy, System.nanoTime())).getResource();
+    }
+
+    @Override
+    public void close() {
+        proxyDirectory.close();
+
+        List<ProxyPool> closing = pools;
+        pools = Collections.emptyList();
+        for (ProxyPool pool : closing) {
+            pool.close();
+        }
+    }
+
+    /**
+     * @return the index of the cheapest load, ties going to the first one from {@code offset} on.
+     */
+    static <T> int select(List<T> candidates, Function<T, ProxyLoad> loads, int offset, JodisBalancingStrategy strategy,
+                          long now) {
+        int size = candidates.size();
+        if (strategy == JodisBalancingStrategy.ROUND_ROBIN) {
+            return offset % size;
+        }
+
+        int best = -1;
+        double bestCost = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            int index = (offset + i) % size;
+            double cost = loads.apply(candidates.get(index)).cost(strategy, now);
+            if (cost < bestCost) {
+                best = index;
+                bestCost = cost;
+            }
+        }
+        return best;
+    }
+
+    private synchronized void resetPools(List<String> proxies) {
+        Map<String, ProxyPool> current = new HashMap<>();
+        for (ProxyPool pool : pools) {
+            current.put(pool.addr, pool);
+        }
+
+        List<ProxyPool> updated = new ArrayList<>();
+        for (String addr : proxies) {
+            ProxyPool pool = current.remove(addr);
+            if (pool == null) {
+                try {
+                    String[] hostAndPort = addr.split(":");
+                    pool = new ProxyPool(addr, hostAndPort[0], Integer.parseInt(hostAndPort[1]));
+                    log.info("Add new proxy: " + addr);
+                } catch (Exception ex) {
+                    log.warn("parse " + addr + " failed", ex);
+                    continue;
+                }
+            }
+            updated.add(pool);
+        }
+
+        pools = Collections.unmodifiableList(updated);
+        for (ProxyPool pool : current.values()) {
+            log.info("Remove proxy: " + pool.addr);
+            pool.close();
+        }
+    }
+
+    /**
+     * In-flight borrows and latency of one proxy.
+     */
+    static class ProxyLoad {
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private double latencyNanos;
+        private long lastUpdate;
+
+        ProxyLoad(long now) {
+            this.lastUpdate = now;
+        }
+
+        void borrowed() {
+            outstanding.incrementAndGet();
+        }
+
+        void returned(long latency, long now) {
+            outstanding.decrementAndGet();
+            synchronized (this) {
+                double decayed = decayedLatency(now);
+                // jump to a latency peak at once so a stalling proxy is avoided right away
+                latencyNanos = latency > decayed ? latency : decayed + (latency - decayed) * (1 - weight(now));
+                lastUpdate = now;
+            }
+        }
+
+        double cost(JodisBalancingStrategy strategy, long now) {
+            int inFlight = outstanding.get();
+            if (strategy == JodisBalancingStrategy.LEAST_OUTSTANDING) {
+                return inFlight;
+            }
+
+            double latency;
+            synchronized (this) {
+                latency = decayedLatency(now);
+            }
+            return (latency + 1) * (inFlight + 1);
+        }
+
+        private double decayedLatency(long now) {
+            return latencyNanos * weight(now);
+        }
+
+        private double weight(long now) {
+            return Math.exp(-(double) Math.max(now - lastUpdate, 0) / LATENCY_DECAY_NANOS);
+        }
+    }
+
+    private class ProxyPool extends JedisPool {
+        private final String addr;
+        private final ProxyLoad load = new ProxyLoad(System.nanoTime());
+        private final ConcurrentMap<Jedis, Long> borrowedAt = new ConcurrentHashMap<>();
+
+        ProxyPool(String addr, String host, int port) {
+            super(poolConfig, host, port, connectionTimeoutMs, soTimeoutMs, password, 0, null, false, null, null, null);
+            this.addr = addr;
+        }
+
+        @Override
+        public Jedis getResource() {
+            Jedis resource = super.getResource();
+            borrowedAt.put(resource, System.nanoTime());
+            load.borrowed();
+            return resource;
+        }
+
+        // Jedis.close() still returns resources through these deprecated methods
+        @Override
+        @Deprecated
+        @SuppressWarnings("deprecation")
+        public void returnResource(Jedis resource) {
+            released(resource);
+            super.returnResource(resource);
+        }
+
+        @Override
+        @Deprecated
+        @SuppressWarnings("deprecation")
+        public void returnBrokenResource(Jedis resource) {
+            released(resource);
+            super.returnBrokenResource(resource);
+        }
+
+        private void released(Jedis resource) {
+            Long start = resource != null ? borrowedAt.remove(resource) : null;
+            if (start != null) {
+                long now = System.nanoTime();
+                load.returned(now - start, now);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.springframework.data.redis.connection;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.codis.jodis.BoundedExponentialBackoffRetryUntilElapsed;
+import io.codis.jodis.CodisProxyInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.CuratorFrameworkFactory;
+import org.apache.curator.framework.recipes.cache.ChildData;
+import org.apache.curator.framework.recipes.cache.PathChildrenCache;
+import org.apache.curator.framework.recipes.cache.PathChildrenCacheEvent;
+import org.springframework.util.Assert;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Watches the Codis proxy directory in ZooKeeper the way jodis' {@link io.codis.jodis.RoundRobinJedisPool} does,
+ * and reports the addresses ({@code host:port}) of the online proxies whenever they change.
+ */
+@Slf4j
+public class CodisProxyDirectory implements Closeable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String CODIS_PROXY_STATE_ONLINE = "online";
+    private static final int CURATOR_RETRY_BASE_SLEEP_MS = 100;
+    private static final int CURATOR_RETRY_MAX_SLEEP_MS = 30000;
+    private static final Set<PathChildrenCacheEvent.Type> RESET_TYPES = EnumSet.of(
+            PathChildrenCacheEvent.Type.CHILD_ADDED,
+            PathChildrenCacheEvent.Type.CHILD_UPDATED,
+            PathChildrenCacheEvent.Type.CHILD_REMOVED);
+
+    private final CuratorFramework curatorClient;
+    private final PathChildrenCache watcher;
+
+    /**
+     * @param listener called with the online proxies on every change, from a ZooKeeper event thread.
+     */
+    public CodisProxyDirectory(JodisConfiguration config, Consumer<List<String>> listener) {
+        Assert.notNull(config.getConnectString(), "Zookeeper connect string must not be null!");
+        Assert.notNull(config.getProxyDirection(), "Zookeeper proxy direction must not be null!");
+
+        this.curatorClient = CuratorFrameworkFactory.builder()
+                .connectString(config.getConnectString())
+                .sessionTimeoutMs(config.getSessionTimeoutMs())
+                .retryPolicy(new BoundedExponentialBackoffRetryUntilElapsed(CURATOR_RETRY_BASE_SLEEP_MS,
+                        CURATOR_RETRY_MAX_SLEEP_MS, -1L))
+                .build();
+        curatorClient.start();
+
+        this.watcher = new PathChildrenCache(curatorClient, config.getProxyDirection(), true);
+        watcher.getListenable().addListener((client, event) -> {
+            log.info("Proxy directory event {} {}", event.getType(),
+                    event.getData() != null ? event.getData().getPath() : "");
+            if (RESET_TYPES.contains(event.getType())) {
+                listener.accept(getOnlineProxies());
+            }
+        });
+
+        try {
+            watcher.start(PathChildrenCache.StartMode.BUILD_INITIAL_CACHE);
+        } catch (Exception ex) {
+            close();
+            throw new JedisException(ex);
+        }
+    }
+
+    public List<String> getOnlineProxies() {
+        List<String> proxies = new ArrayList<>();
+        for (ChildData childData : watcher.getCurrentData()) {
+            try {
+                CodisProxyInfo proxyInfo = MAPPER.readValue(childData.getData(), CodisProxyInfo.class);
+                if (CODIS_PROXY_STATE_ONLINE.equals(proxyInfo.getState())) {
+                    proxies.add(proxyInfo.getAddr());
+                }
+            } catch (Exception ex) {
+                log.warn("parse " + childData.getPath() + " failed", ex);
+            }
+        }
+        return proxies;
+    }
+
+    @Override
+    public void close() {
+        try {
+            watcher.close();
+        } catch (IOException ex) {
+            log.warn("Cannot properly close proxy directory watcher", ex);
+        }
+        curatorClient.close();
+    }
+}
@@ -0,0 +1,67 @@
+package org.springframework.data.redis.connection;
+
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Slot hashing as done by the Codis proxy: {@code crc32(key) % 1024}. When the key holds a
+ * {@code {...}} tag, only the part between the braces is hashed.
+ */
+public abstract class CodisSlotHashUtil {
+
+    public static final int SLOT_COUNT = 1024;
+
+    private static final byte TAG_BEGIN = '{';
+    private static final byte TAG_END = '}';
+
+    public static int calculateSlot(byte[] key) {
+        Assert.notNull(key, "Key must not be null!");
+
+        int[] range = hashedRange(key);
+        CRC32 crc32 = new CRC32();
+        crc32.update(key, range[0], range[1]);
+        return (int) (crc32.getValue() % SLOT_COUNT);
+    }
+
+    /**
+     * @return the part of {@code key} its slot is computed from: the tag, or the whole key without one.
+     */
+    public static byte[] getHashedPart(byte[] key) {
+        Assert.notNull(key, "Key must not be null!");
+
+        int[] range = hashedRange(key);
+        return Arrays.copyOfRange(key, range[0], range[0] + range[1]);
+    }
+
+    public static boolean isSameSlotForAllKeys(byte[]... keys) {
+        Assert.notNull(keys, "Keys must not be null!");
+
+        if (keys.length <= 1) {
+            return true;
+        }
+
+        int slot = calculateSlot(keys[0]);
+        for (int i = 1; i < keys.length; i++) {
+            if (slot != calculateSlot(keys[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[] hashedRange(byte[] key) {
+        for (int begin = 0; begin < key.length; begin++) {
+            if (key[begin] == TAG_BEGIN) {
+                for (int end = begin + 1; end < key.length; end++) {
+                    if (key[end] == TAG_END) {
+                        return new int[]{begin + 1, end - begin - 1};
+                    }
+                }
+                break;
+            }
+        }
+        return new int[]{0, key.length};
+    }
+}
@@ -0,0 +1,380 @@
+package org.springframework.data.redis.connection;
+
+import io.codis.jodis.JedisResourcePool;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.jedis.JedisConverters;
+import org.springframework.util.Assert;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs the common string, hash, list, set and sorted set commands off the caller's thread, returning
+ * {@link CompletableFuture}s, so that the lookups of one request overlap instead of running one after another.
+ * <p>
+ * Every lane owns one I/O thread with a bounded queue and one pinned {@link Jedis}; since the round robin pool
+ * hands out resources proxy by proxy, the lanes spread over the proxies. The lane thread drains whatever is queued,
+ * up to {@value #MAX_BATCH} commands, into one pipeline, so commands queued while a round trip is in flight share
+ * the next one. A key always goes to the lane of its slot, so the commands on one key run in submission order.
+ * A full lane fails the future with a {@link RejectedExecutionException}.
+ * <p>
+ * Futures complete on the lane thread: dependent stages doing more than a little work should use the
+ * {@code *Async} variants of {@link CompletableFuture} to leave the lane free.
+ */
+@Slf4j
+public class JodisAsyncCommands implements DisposableBean {
+
+    private static final int MAX_BATCH = 128;
+    private static final long IDLE_POLL_MS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+    private static final AtomicInteger INSTANCE_COUNT = new AtomicInteger();
+
+    private final JedisResourcePool resourcePool;
+    private final Lane[] lanes;
+
+    private volatile boolean running = true;
+
+    @Setter
+    private JodisCommandMetrics metrics;
+    @Setter
+    private JodisHotKeySampler hotKeys;
+    /**
+     * Near cache of the connections, invalidated by the writes made here.
+     */
+    @Setter
+    private JodisNearCache nearCache;
+
+    public JodisAsyncCommands(JedisResourcePool resourcePool, int lanes, int queueCapacity) {
+        Assert.notNull(resourcePool, "Resource pool must not be null!");
+        Assert.isTrue(lanes > 0, "Lanes must be greater than 0!");
+        Assert.isTrue(queueCapacity > 0, "Queue capacity must be greater than 0!");
+
+        this.resourcePool = resourcePool;
+        this.lanes = new Lane[lanes];
+        int instance = INSTANCE_COUNT.incrementAndGet();
+        for (int i = 0; i < lanes; i++) {
+            this.lanes[i] = new Lane("jodis-async-" + instance + "-" + i, queueCapacity);
+            this.lanes[i].start();
+        }
+    }
+
+    public CompletableFuture<byte[]> get(byte[] key) {
+        return read("GET", key, pipeline -> pipeline.get(key));
+    }
+
+    public CompletableFuture<Void> set(byte[] key, byte[] value) {
+        return write("SET", key, pipeline -> pipeline.set(key, value), reply -> null);
+    }
+
+    public CompletableFuture<Void> setEx(byte[] key, long seconds, byte[] value) {
+        Assert.isTrue(seconds <= Integer.MAX_VALUE, "Seconds cannot exceed Integer.MAX_VALUE!");
+        return write("SETEX", key, pipeline -> pipeline.setex(key, (int) seconds, value), reply -> null);
+    }
+
+    public CompletableFuture<Long> incrBy(byte[] key, long value) {
+        return write("INCRBY", key, pipeline -> pipeline.incrBy(key, value), Function.identity());
+    }
+
+    public CompletableFuture<Long> del(byte[] key) {
+        return write("DEL", key, pipeline -> pipeline.del(key), Function.identity());
+    }
+
+    public CompletableFuture<Boolean> expire(byte[] key, long seconds) {
+        Assert.isTrue(seconds <= Integer.MAX_VALUE, "Seconds cannot exceed Integer.MAX_VALUE!");
+        return write("EXPIRE", key, pipeline -> pipeline.expire(key, (int) seconds), reply -> reply == 1);
+    }
+
+    public CompletableFuture<byte[]> hGet(byte[] key, byte[] field) {
+        return read("HGET", key, pipeline -> pipeline.hget(key, field));
+    }
+
+    public CompletableFuture<Map<byte[], byte[]>> hGetAll(byte[] key) {
+        return read("HGETALL", key, pipeline -> pipeline.hgetAll(key));
+    }
+
+    public CompletableFuture<Boolean> hSet(byte[] key, byte[] field, byte[] value) {
+        return write("HSET", key, pipeline -> pipeline.hset(key, field, value), reply -> reply == 1);
+    }
+
+    public CompletableFuture<Long> hDel(byte[] key, byte[]... fields) {
+        return write("HDEL", key, pipeline -> pipeline.hdel(key, fields), Function.identity());
+    }
+
+    public CompletableFuture<Long> lPush(byte[] key, byte[]... values) {
+        return write("LPUSH", key, pipeline -> pipeline.lpush(key, values), Function.identity());
+    }
+
+    public CompletableFuture<Long> rPush(byte[] key, byte[]... values) {
+        return write("RPUSH", key, pipeline -> pipeline.rpush(key, values), Function.identity());
+    }
+
+    public CompletableFuture<byte[]> lPop(byte[] key) {
+        return write("LPOP", key, pipeline -> pipeline.lpop(key), Function.identity());
+    }
+
+    public CompletableFuture<List<byte[]>> lRange(byte[] key, long start, long end) {
+        return read("LRANGE", key, pipeline -> pipeline.lrange(key, start, end));
+    }
+
+    public CompletableFuture<Long> sAdd(byte[] key, byte[]... members) {
+        return write("SADD", key, pipeline -> pipeline.sadd(key, members), Function.identity());
+    }
+
+    public CompletableFuture<Set<byte[]>> sMembers(byte[] key) {
+        return read("SMEMBERS", key, pipeline -> pipeline.smembers(key));
+    }
+
+    public CompletableFuture<Boolean> sIsMember(byte[] key, byte[] member) {
+        return read("SISMEMBER", key, pipeline -> pipeline.sismember(key, member));
+    }
+
+    public CompletableFuture<Boolean> zAdd(byte[] key, double score, byte[] member) {
+        return write("ZADD", key, pipeline -> pipeline.zadd(key, score, member), reply -> reply == 1);
+    }
+
+    public CompletableFuture<Double> zIncrBy(byte[] key, double increment, byte[] member) {
+        return write("ZINCRBY", key, pipeline -> pipeline.zincrby(key, increment, member), Function.identity());
+    }
+
+    public CompletableFuture<Double> zScore(byte[] key, byte[] member) {
+        return read("ZSCORE", key, pipeline -> pipeline.zscore(key, member));
+    }
+
+    public CompletableFuture<Set<byte[]>> zRange(byte[] key, long start, long end) {
+        return read("ZRANGE", key, pipeline -> pipeline.zrange(key, start, end));
+    }
+
+    public CompletableFuture<Set<byte[]>> zRevRange(byte[] key, long start, long end) {
+        return read("ZREVRANGE", key, pipeline -> pipeline.zrevrange(key, start, end));
+    }
+
+    /**
+     * Reads many keys at once: the keys of each lane share its pipelines, and the lanes run in parallel.
+     *
+     * @return the values in the order of {@code keys}, {@code null} for missing keys.
+     */
+    public CompletableFuture<List<byte[]>> getAll(List<byte[]> keys) {
+        Assert.notNull(keys, "Keys must not be null!");
+
+        List<CompletableFuture<byte[]>> values = new ArrayList<>(keys.size());
+        for (byte[] key : keys) {
+            values.add(get(key));
+        }
+        return all(values);
+    }
+
+    /**
+     * Completes once all {@code futures} are, with their values in order, or with the first failure.
+     */
+    public static <T> CompletableFuture<List<T>> all(List<CompletableFuture<T>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    List<T> values = new ArrayList<>(futures.size());
+                    for (CompletableFuture<T> future : futures) {
+                        values.add(future.join());
+                    }
+                    return values;
+                });
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        for (Lane lane : lanes) {
+            try {
+                lane.join(SHUTDOWN_TIMEOUT_MS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            lane.interrupt();
+        }
+    }
+
+    private <T> CompletableFuture<T> read(String command, byte[] key,
+                                          JodisCommandExecutor.JodisPipelineCallback<T> callback) {
+        return submit(command, key, false, callback, Function.identity());
+    }
+
+    private <R, T> CompletableFuture<T> write(String command, byte[] key,
+                                              JodisCommandExecutor.JodisPipelineCallback<R> callback,
+                                              Function<R, T> converter) {
+        return submit(command, key, true, callback, converter);
+    }
+
+    private <R, T> CompletableFuture<T> submit(String command, byte[] key, boolean write,
+                                               JodisCommandExecutor.JodisPipelineCallback<R> callback,
+                                               Function<R, T> converter) {
+        Assert.notNull(key, "Key must not be null!");
+        if (hotKeys != null) {
+            hotKeys.sample(command, key);
+        }
+
+        PendingCommand<R, T> pending = new PendingCommand<>(command, write ? key : null, callback, converter);
+        if (!running) {
+            pending.future.completeExceptionally(new RejectedExecutionException("Async commands are shut down"));
+        } else if (!lanes[CodisSlotHashUtil.calculateSlot(key) % lanes.length].queue.offer(pending)) {
+            pending.future.completeExceptionally(new RejectedExecutionException("Async commands queue is full"));
+        }
+        return pending.future;
+    }
+
+    private class Lane extends Thread {
+
+        private final BlockingQueue<PendingCommand<?, ?>> queue;
+        private final List<PendingCommand<?, ?>> batch = new ArrayList<>(MAX_BATCH);
+        private Jedis resource;
+
+        Lane(String name, int queueCapacity) {
+            super(name);
+            setDaemon(true);
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (running || !queue.isEmpty()) {
+                    PendingCommand<?, ?> first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+
+                    batch.add(first);
+                    queue.drainTo(batch, MAX_BATCH - 1);
+                    flush();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                RejectedExecutionException rejected = new RejectedExecutionException("Async commands are shut down");
+                batch.forEach(pending -> pending.future.completeExceptionally(rejected));
+                queue.forEach(pending -> pending.future.completeExceptionally(rejected));
+                release();
+            }
+        }
+
+        private void flush() {
+            long start = System.nanoTime();
+            Jedis client = null;
+            try {
+                client = acquire();
+                Pipeline pipeline = client.pipelined();
+                for (PendingCommand<?, ?> pending : batch) {
+                    pending.enqueue(pipeline);
+                }
+                pipeline.sync();
+                client.resetState();
+
+                long elapsed = System.nanoTime() - start;
+                for (PendingCommand<?, ?> pending : batch) {
+                    pending.complete(client, elapsed);
+                }
+            } catch (RuntimeException ex) {
+                log.error(ex.getMessage(), ex);
+                for (PendingCommand<?, ?> pending : batch) {
+                    pending.fail(client, ex);
+                }
+                release();
+            } finally {
+                batch.clear();
+            }
+        }
+
+        private Jedis acquire() {
+            if (resource != null && resource.getClient().isBroken()) {
+                release();
+            }
+            if (resource == null) {
+                resource = resourcePool.getResource();
+            }
+            return resource;
+        }
+
+        private void release() {
+            if (resource != null) {
+                try {
+                    resource.close();
+                } catch (Exception ex) {
+                    log.warn("Cannot properly return async resource", ex);
+                } finally {
+                    resource = null;
+                }
+            }
+        }
+    }
+
+    private class PendingCommand<R, T> {
+
+        private final String command;
+        // the written key, null for reads
+        private final byte[] writtenKey;
+        private final JodisCommandExecutor.JodisPipelineCallback<R> callback;
+        private final Function<R, T> converter;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private Response<R> response;
+
+        PendingCommand(String command, byte[] writtenKey, JodisCommandExecutor.JodisPipelineCallback<R> callback,
+                       Function<R, T> converter) {
+            this.command = command;
+            this.writtenKey = writtenKey;
+            this.callback = callback;
+            this.converter = converter;
+        }
+
+        void enqueue(Pipeline pipeline) {
+            try {
+                response = callback.doInPipeline(pipeline);
+            } catch (RuntimeException ex) {
+                fail(null, ex);
+            }
+        }
+
+        void complete(Jedis client, long elapsed) {
+            if (response == null) {
+                return;
+            }
+
+            invalidate();
+            try {
+                T value = converter.apply(response.get());
+                if (metrics != null) {
+                    metrics.recordExecution(command, client, elapsed);
+                }
+                future.complete(value);
+            } catch (RuntimeException ex) {
+                fail(client, ex);
+            }
+        }
+
+        void fail(Jedis client, RuntimeException ex) {
+            invalidate();
+            if (metrics != null) {
+                metrics.recordError(command, client, ex);
+            }
+            DataAccessException translated = JedisConverters.toDataAccessException(ex);
+            future.completeExceptionally(translated != null ? translated : ex);
+        }
+
+        private void invalidate() {
+            // a failed write may still have been applied
+            if (nearCache != null && writtenKey != null) {
+                nearCache.invalidate(writtenKey);
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.springframework.data.redis.connection;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JodisAutoPipeliningConfiguration {
+    private int connections = 2;
+    private int batchSize = 64;
+    private long flushIntervalMicros = 100;
+    private int queueCapacity = 4096;
+    private long timeoutMs = 2000;
+}
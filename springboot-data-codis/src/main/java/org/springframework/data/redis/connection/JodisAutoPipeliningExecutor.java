@@ -0,0 +1,256 @@
+package org.springframework.data.redis.connection;
+
+import io.codis.jodis.JedisResourcePool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Batches commands of concurrent callers into pipelines.
+ * <p>
+ * Every lane owns one worker thread and one pinned {@link Jedis}. Since the round robin pool hands
+ * out resources proxy by proxy, the lanes spread over the proxies. A worker flushes as soon as
+ * {@code batchSize} commands are queued or {@code flushIntervalMicros} passed since the first one,
+ * then completes each caller with its own reply.
+ * <p>
+ * A caller that times out or is interrupted before its command was written to a pipeline withdraws
+ * it, so the command never runs. Once written, the caller waits for the reply, which is bounded by
+ * the socket timeout of the connection.
+ * <p>
+ * {@link #destroy()} lets every lane finish the batch in flight and rejects the commands still queued.
+ */
+@Slf4j
+public class JodisAutoPipeliningExecutor implements DisposableBean {
+
+    private static final long IDLE_POLL_MS = 100;
+
+    private final JedisResourcePool resourcePool;
+    private final JodisAutoPipeliningConfiguration config;
+    private final Lane[] lanes;
+    private final AtomicInteger nextLane = new AtomicInteger();
+
+    private volatile boolean running = true;
+
+    public JodisAutoPipeliningExecutor(JedisResourcePool resourcePool, JodisAutoPipeliningConfiguration config) {
+        Assert.notNull(resourcePool, "Resource pool must not be null!");
+        Assert.isTrue(config.getConnections() > 0, "Connections must be greater than 0!");
+        Assert.isTrue(config.getBatchSize() > 0, "Batch size must be greater than 0!");
+
+        this.resourcePool = resourcePool;
+        this.config = config;
+        this.lanes = new Lane[config.getConnections()];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(i);
+            lanes[i].start();
+        }
+    }
+
+    public <T> T execute(JodisCommandExecutor.JodisPipelineCallback<T> command) {
+        if (!running) {
+            throw new RejectedExecutionException("Auto pipelining executor is shut down");
+        }
+
+        PendingCommand<T> pending = new PendingCommand<>(command);
+        Lane lane = lanes[(nextLane.getAndIncrement() & Integer.MAX_VALUE) % lanes.length];
+        if (!lane.queue.offer(pending)) {
+            throw new RejectedExecutionException("Auto pipelining queue is full");
+        }
+
+        try {
+            try {
+                return pending.future.get(config.getTimeoutMs(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException ex) {
+                if (pending.withdraw()) {
+                    throw new JedisConnectionException("Auto pipelined command timed out", ex);
+                }
+                return pending.future.get();
+            }
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new JedisConnectionException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            String state = pending.withdraw() ? "withdrawn" : "already sent";
+            throw new JedisConnectionException("Interrupted while waiting for auto pipelined command, " + state, ex);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        for (Lane lane : lanes) {
+            try {
+                lane.join(config.getTimeoutMs());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            lane.interrupt();
+        }
+    }
+
+    private class Lane extends Thread {
+
+        private final BlockingQueue<PendingCommand<?>> queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+        private final List<PendingCommand<?>> batch = new ArrayList<>(config.getBatchSize());
+        private Jedis resource;
+
+        Lane(int index) {
+            super("jodis-auto-pipelining-" + index);
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (running) {
+                    PendingCommand<?> first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+
+                    batch.add(first);
+                    fill();
+                    flush();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                RejectedExecutionException rejected = new RejectedExecutionException("Auto pipelining executor is shut down");
+                batch.forEach(pending -> pending.fail(rejected));
+                queue.forEach(pending -> pending.fail(rejected));
+                release();
+            }
+        }
+
+        private void fill() throws InterruptedException {
+            queue.drainTo(batch, config.getBatchSize() - batch.size());
+
+            long deadline = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(config.getFlushIntervalMicros());
+            while (batch.size() < config.getBatchSize()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+
+                PendingCommand<?> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    return;
+                }
+                batch.add(next);
+                queue.drainTo(batch, config.getBatchSize() - batch.size());
+            }
+        }
+
+        private void flush() {
+            try {
+                Pipeline pipeline = acquire().pipelined();
+                for (PendingCommand<?> pending : batch) {
+                    pending.enqueue(pipeline);
+                }
+                pipeline.sync();
+                for (PendingCommand<?> pending : batch) {
+                    pending.complete();
+                }
+                resource.resetState();
+            } catch (RuntimeException ex) {
+                log.error(ex.getMessage(), ex);
+                for (PendingCommand<?> pending : batch) {
+                    pending.fail(ex);
+                }
+                release();
+            } finally {
+                batch.clear();
+            }
+        }
+
+        private Jedis acquire() {
+            if (resource != null && resource.getClient().isBroken()) {
+                release();
+            }
+            if (resource == null) {
+                resource = resourcePool.getResource();
+            }
+            return resource;
+        }
+
+        private void release() {
+            if (resource != null) {
+                try {
+                    resource.close();
+                } catch (Exception ex) {
+                    log.warn("Cannot properly return auto pipelining resource", ex);
+                } finally {
+                    resource = null;
+                }
+            }
+        }
+    }
+
+    private static class PendingCommand<T> {
+
+        private final JodisCommandExecutor.JodisPipelineCallback<T> command;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        // set by whoever comes first: the lane sending the command or the caller withdrawing it
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private Response<T> response;
+
+        PendingCommand(JodisCommandExecutor.JodisPipelineCallback<T> command) {
+            this.command = command;
+        }
+
+        void enqueue(Pipeline pipeline) {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                response = command.doInPipeline(pipeline);
+            } catch (RuntimeException ex) {
+                future.completeExceptionally(ex);
+            }
+        }
+
+        void complete() {
+            if (response != null) {
+                try {
+                    future.complete(response.get());
+                } catch (RuntimeException ex) {
+                    future.completeExceptionally(ex);
+                }
+            }
+        }
+
+        /**
+         * @return whether the command was withdrawn before being sent.
+         */
+        boolean withdraw() {
+            if (claimed.compareAndSet(false, true)) {
+                future.completeExceptionally(new CancellationException("Auto pipelined command withdrawn"));
+                return true;
+            }
+            return false;
+        }
+
+        void fail(Exception ex) {
+            future.completeExceptionally(ex);
+        }
+    }
+}
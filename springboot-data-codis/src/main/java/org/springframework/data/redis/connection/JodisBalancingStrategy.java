@@ -0,0 +1,19 @@
+package org.springframework.data.redis.connection;
+
+/**
+ * How a {@link io.codis.jodis.JedisResourcePool} picks the Codis proxy to borrow a resource from.
+ */
+public enum JodisBalancingStrategy {
+    /**
+     * Cycle through the proxies, as jodis' {@link io.codis.jodis.RoundRobinJedisPool} does.
+     */
+    ROUND_ROBIN,
+    /**
+     * Pick the proxy with the fewest resources currently borrowed.
+     */
+    LEAST_OUTSTANDING,
+    /**
+     * Pick the proxy with the lowest decaying moving average of latency, weighted by its borrowed resources.
+     */
+    EWMA_LATENCY
+}
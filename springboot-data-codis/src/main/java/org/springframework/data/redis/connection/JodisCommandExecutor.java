@@ -6,28 +6,60 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.data.redis.connection.util.ByteArrayWrapper;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Slf4j
 public class JodisCommandExecutor implements DisposableBean {
 
+    private static final String UNKNOWN_COMMAND = "UNKNOWN";
+
+    @Getter
     private final JodisResourceProvider resourceProvider;
+    private final JodisAutoPipeliningExecutor autoPipelining;
+    @Getter
+    private final JodisCommandMetrics metrics;
+    @Getter
+    private final JodisHotKeySampler hotKeys;
 
     public JodisCommandExecutor() {
-        resourceProvider = new JodisResourceProvider() {
-            @Override
-            public <S> S getResource(JedisResourcePool resourcePool) {
-                //noinspection unchecked
-                return (S) resourcePool.getResource();
-            }
+        this(new PooledJodisResourceProvider());
+    }
 
-            @Override
-            public void returnResource(Jedis resource) {
-                resource.close();
-            }
-        };
+    public JodisCommandExecutor(JodisResourceProvider resourceProvider) {
+        this(resourceProvider, null);
+    }
+
+    public JodisCommandExecutor(JodisResourceProvider resourceProvider, JodisAutoPipeliningExecutor autoPipelining) {
+        this(resourceProvider, autoPipelining, null);
+    }
+
+    public JodisCommandExecutor(JodisResourceProvider resourceProvider, JodisAutoPipeliningExecutor autoPipelining,
+                                JodisCommandMetrics metrics) {
+        this(resourceProvider, autoPipelining, metrics, null);
+    }
+
+    public JodisCommandExecutor(JodisResourceProvider resourceProvider, JodisAutoPipeliningExecutor autoPipelining,
+                                JodisCommandMetrics metrics, JodisHotKeySampler hotKeys) {
+        this.resourceProvider = resourceProvider;
+        this.autoPipelining = autoPipelining;
+        this.metrics = metrics;
+        this.hotKeys = hotKeys;
     }
 
     public <S, T> NodeResult<T> executeCommandInResourcePool(JedisResourcePool resourcePool, JodisCommandCallback<S, T> command) {
+        return executeCommandInResourcePool(resourcePool, UNKNOWN_COMMAND, command);
+    }
+
+    public <S, T> NodeResult<T> executeCommandInResourcePool(JedisResourcePool resourcePool, String commandName,
+                                                             JodisCommandCallback<S, T> command) {
+        if (metrics != null) {
+            return executeCommandWithMetrics(resourcePool, commandName, command);
+        }
+
         S resource = resourceProvider.getResource(resourcePool);
         try {
             return new NodeResult<>(command.doInJodis(resource));
@@ -39,10 +71,104 @@ public class JodisCommandExecutor implements DisposableBean {
         }
     }
 
+    public <S, T> NodeResult<T> executeCommandInResourcePool(JedisResourcePool resourcePool, String commandName,
+                                                             byte[] key, JodisCommandCallback<S, T> command) {
+        if (hotKeys != null) {
+            hotKeys.sample(commandName, key);
+        }
+        return executeCommandInResourcePool(resourcePool, commandName, command);
+    }
 
-    @Override
-    public void destroy() throws Exception {
+    private <S, T> NodeResult<T> executeCommandWithMetrics(JedisResourcePool resourcePool, String commandName,
+                                                           JodisCommandCallback<S, T> command) {
+        long start = System.nanoTime();
+        S resource;
+        try {
+            resource = resourceProvider.getResource(resourcePool);
+        } catch (RuntimeException ex) {
+            metrics.recordError(commandName, null, ex);
+            throw ex;
+        }
+
+        Jedis client = (Jedis) resource;
+        long borrowed = System.nanoTime();
+        metrics.recordPoolWait(commandName, client, borrowed - start);
+        try {
+            T value = command.doInJodis(resource);
+            metrics.recordExecution(commandName, client, System.nanoTime() - borrowed);
+            return new NodeResult<>(value);
+        } catch (RuntimeException ex) {
+            metrics.recordError(commandName, client, ex);
+            log.error(ex.getMessage(), ex);
+            throw ex;
+        } finally {
+            resourceProvider.returnResource(client);
+        }
+    }
+
+    public <T> NodeResult<List<T>> executePipelineInResourcePool(JedisResourcePool resourcePool,
+                                                                 JodisCommandCallback<Pipeline, List<Response<T>>> commands) {
+        return executePipelineInResourcePool(resourcePool, UNKNOWN_COMMAND, commands);
+    }
+
+    public <T> NodeResult<List<T>> executePipelineInResourcePool(JedisResourcePool resourcePool, String commandName,
+                                                                 JodisCommandCallback<Pipeline, List<Response<T>>> commands) {
+        return executeCommandInResourcePool(resourcePool, commandName, (JodisCommandCallback<Jedis, List<T>>) client -> {
+            List<Response<T>> responses;
+            Pipeline pipeline = client.pipelined();
+            try {
+                responses = commands.doInJodis(pipeline);
+                pipeline.sync();
+            } finally {
+                if (!client.getClient().isBroken()) {
+                    client.resetState();
+                }
+            }
 
+            List<T> results = new ArrayList<>(responses.size());
+            for (Response<T> response : responses) {
+                results.add(response.get());
+            }
+            return results;
+        });
+    }
+
+    public <S, T> NodeResult<T> executeCommandInResourcePool(JedisResourcePool resourcePool, String commandName,
+                                                             JodisPipelineCallback<T> pipelineCommand,
+                                                             JodisCommandCallback<S, T> command) {
+        if (autoPipelining == null) {
+            return executeCommandInResourcePool(resourcePool, commandName, command);
+        }
+
+        long start = metrics != null ? System.nanoTime() : 0;
+        try {
+            T value = autoPipelining.execute(pipelineCommand);
+            if (metrics != null) {
+                // the lanes own their resources, so the proxy is not known here
+                metrics.recordExecution(commandName, null, System.nanoTime() - start);
+            }
+            return new NodeResult<>(value);
+        } catch (RuntimeException ex) {
+            if (metrics != null) {
+                metrics.recordError(commandName, null, ex);
+            }
+            log.error(ex.getMessage(), ex);
+            throw ex;
+        }
+    }
+
+    public <S, T> NodeResult<T> executeCommandInResourcePool(JedisResourcePool resourcePool, String commandName,
+                                                             byte[] key, JodisPipelineCallback<T> pipelineCommand,
+                                                             JodisCommandCallback<S, T> command) {
+        if (hotKeys != null) {
+            hotKeys.sample(commandName, key);
+        }
+        return executeCommandInResourcePool(resourcePool, commandName, pipelineCommand, command);
+    }
+
+    @Override
+    public void destroy() {
+        resourceProvider.release();
     }
 
 
@@ -50,6 +176,10 @@ public class JodisCommandExecutor implements DisposableBean {
         S doInJodis(T client);
     }
 
+    public interface JodisPipelineCallback<T> {
+        Response<T> doInPipeline(Pipeline pipeline);
+    }
+
 
     public static class NodeResult<T> {
         @Getter
@@ -0,0 +1,17 @@
+package org.springframework.data.redis.connection;
+
+import redis.clients.jedis.Jedis;
+
+/**
+ * Receives timings and errors of the commands run by {@link JodisCommandExecutor}. The resource is
+ * {@literal null} when the command did not run on a resource of its own, e.g. when it was auto-pipelined
+ * or no resource could be borrowed.
+ */
+public interface JodisCommandMetrics {
+
+    void recordPoolWait(String command, Jedis resource, long nanos);
+
+    void recordExecution(String command, Jedis resource, long nanos);
+
+    void recordError(String command, Jedis resource, Throwable ex);
+}
@@ -0,0 +1,213 @@
+package org.springframework.data.redis.connection;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind counters: increments are summed in a {@link LongAdder} per key and written as one {@code INCRBY}
+ * per changed key, all keys of a flush sharing one pipeline.
+ * <p>
+ * A flush runs every {@code flushIntervalMs}, early once a key has gathered {@code deltaThreshold} since its last
+ * flush, and on {@link #destroy()}. Codis therefore lags behind by up to one interval, and loses what was not flushed
+ * when the JVM dies. The delta of a failed flush is written by the next one. Keys without increments for
+ * {@value #IDLE_FLUSHES} flushes are dropped: their counter is retired once no increment is in flight, and an
+ * increment finding a retired counter starts a new one.
+ */
+@Slf4j
+public class JodisCounterAggregator implements DisposableBean {
+
+    private static final int IDLE_FLUSHES = 3;
+
+    private final RedisConnectionFactory connectionFactory;
+    private final long deltaThreshold;
+    private final ScheduledExecutorService scheduler;
+
+    private final ConcurrentMap<ByteArrayWrapper, Counter> counters = new ConcurrentHashMap<>();
+    private final AtomicBoolean earlyFlushScheduled = new AtomicBoolean();
+
+    /**
+     * @param deltaThreshold absolute delta of a key which triggers an early flush, {@code 0} to only flush on the
+     *                       interval.
+     */
+    public JodisCounterAggregator(RedisConnectionFactory connectionFactory, long flushIntervalMs, long deltaThreshold) {
+        Assert.notNull(connectionFactory, "Connection factory must not be null!");
+        Assert.isTrue(flushIntervalMs > 0, "Flush interval must be positive!");
+        Assert.isTrue(deltaThreshold >= 0, "Delta threshold must not be negative!");
+
+        this.connectionFactory = connectionFactory;
+        this.deltaThreshold = deltaThreshold;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("jodis-counter-");
+        threadFactory.setDaemon(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void increment(byte[] key) {
+        incrementBy(key, 1);
+    }
+
+    public void incrementBy(byte[] key, long delta) {
+        Assert.notNull(key, "Key must not be null!");
+
+        ByteArrayWrapper wrapper = new ByteArrayWrapper(key);
+        Counter counter;
+        while (true) {
+            counter = counters.computeIfAbsent(wrapper, k -> new Counter());
+            if (counter.enter()) {
+                break;
+            }
+            // retired by an idle flush which has not removed it yet
+            counters.remove(wrapper, counter);
+        }
+        try {
+            counter.adder.add(delta);
+        } finally {
+            counter.exit();
+        }
+
+        if (deltaThreshold > 0 && Math.abs(counter.pending()) >= deltaThreshold
+                && earlyFlushScheduled.compareAndSet(false, true)) {
+            scheduler.execute(this::flushQuietly);
+        }
+    }
+
+    /**
+     * @return the increments of {@code key} not written to Codis yet.
+     */
+    public long getPending(byte[] key) {
+        Counter counter = counters.get(new ByteArrayWrapper(key));
+        return counter != null ? counter.pending() : 0;
+    }
+
+    /**
+     * Writes the pending increments of all keys.
+     */
+    public synchronized void flush() {
+        earlyFlushScheduled.set(false);
+
+        List<byte[]> keys = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        List<Counter> flushed = new ArrayList<>();
+        for (Map.Entry<ByteArrayWrapper, Counter> entry : counters.entrySet()) {
+            Counter counter = entry.getValue();
+            long delta = counter.pending();
+            if (delta != 0) {
+                counter.idleFlushes = 0;
+                keys.add(entry.getKey().getArray());
+                deltas.add(delta);
+                flushed.add(counter);
+            } else if (++counter.idleFlushes >= IDLE_FLUSHES && counter.retire()) {
+                counters.remove(entry.getKey(), counter);
+            }
+        }
+
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        List<Object> results;
+        RedisConnection connection = connectionFactory.getConnection();
+        try {
+            connection.openPipeline();
+            for (int i = 0; i < keys.size(); i++) {
+                connection.incrBy(keys.get(i), deltas.get(i));
+            }
+            results = connection.closePipeline();
+        } catch (RedisPipelineException ex) {
+            // keep the deltas of the keys which were written
+            markFlushed(flushed, deltas, ex.getPipelineResult());
+            throw ex;
+        } finally {
+            connection.close();
+        }
+
+        markFlushed(flushed, deltas, results);
+    }
+
+    private static void markFlushed(List<Counter> flushed, List<Long> deltas, List<Object> results) {
+        for (int i = 0; i < flushed.size() && i < results.size(); i++) {
+            if (!(results.get(i) instanceof Exception)) {
+                flushed.get(i).flushed += deltas.get(i);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+        flushQuietly();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception ex) {
+            log.warn("Cannot flush counters", ex);
+        }
+    }
+
+    private static class Counter {
+        private static final int RETIRED = -1;
+
+        private final LongAdder adder = new LongAdder();
+        /**
+         * Number of increments in flight, or {@link #RETIRED}.
+         */
+        private final AtomicInteger writers = new AtomicInteger();
+        /**
+         * Sum written to Codis so far, only updated by the flushing thread.
+         */
+        private volatile long flushed;
+        private int idleFlushes;
+
+        long pending() {
+            return adder.sum() - flushed;
+        }
+
+        boolean enter() {
+            int current;
+            do {
+                current = writers.get();
+                if (current == RETIRED) {
+                    return false;
+                }
+            } while (!writers.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        void exit() {
+            writers.decrementAndGet();
+        }
+
+        /**
+         * @return whether the counter was retired, which fails while increments are in flight or when one landed
+         * since it was found idle.
+         */
+        boolean retire() {
+            if (!writers.compareAndSet(0, RETIRED)) {
+                return false;
+            }
+            if (pending() != 0) {
+                writers.set(0);
+                return false;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package org.springframework.data.redis.connection;
+
+import lombok.Getter;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Samples the keys of executed commands into a fixed-size Space-Saving sketch to find the hottest keys.
+ * <p>
+ * One in {@code sampleRate} commands is recorded, so the unsampled path costs a single thread-local random draw.
+ * Sampled keys go to a small buffer picked by thread id, and a full buffer is merged into the sketch only if no other
+ * thread is merging; otherwise its samples are dropped, which keeps the sample unbiased. The sketch is a
+ * Stream-Summary, so counting a key and evicting the least counted one are constant time.
+ * <p>
+ * Counts are kept per window (one minute by default); {@link #getHotKeys(boolean)} reports either the last
+ * completed window or the one in progress. A key's count is an upper bound of its sampled hits, off by at most
+ * its {@link HotKey#getError() error}; its reads and writes are only counted since it entered the sketch.
+ */
+public class JodisHotKeySampler {
+
+    public static final long DEFAULT_WINDOW_MS = 60_000L;
+
+    private static final int BUFFER_SIZE = 32;
+
+    private static final Set<String> WRITE_COMMANDS = new HashSet<>(Arrays.asList(
+            "APPEND", "BLPOP", "BRPOP", "BRPOPLPUSH", "DECR", "DECRBY", "DEL", "EXPIRE", "EXPIREAT", "GEOADD",
+            "GETSET", "HDEL", "HINCRBY", "HINCRBYFLOAT", "HMSET", "HSET", "HSETNX", "INCR", "INCRBY", "INCRBYFLOAT",
+            "LINSERT", "LPOP", "LPUSH", "LPUSHX", "LREM", "LSET", "LTRIM", "PERSIST", "PEXPIRE", "PEXPIREAT",
+            "PFADD", "PSETEX", "RESTORE", "RPOP", "RPUSH", "RPUSHX", "SADD", "SET", "SETBIT", "SETEX", "SETNX",
+            "SETRANGE", "SPOP", "SREM", "ZADD", "ZINCRBY", "ZREM", "ZREMRANGEBYRANK", "ZREMRANGEBYSCORE"));
+
+    @Getter
+    private final int sampleRate;
+    @Getter
+    private final int capacity;
+    @Getter
+    private final long windowMs;
+    private final LongSupplier clock;
+
+    private final Buffer[] buffers;
+    // guards the windows
+    private final ReentrantLock lock = new ReentrantLock();
+    private Window current;
+    private Window previous;
+
+    public JodisHotKeySampler(int sampleRate, int capacity) {
+        this(sampleRate, capacity, DEFAULT_WINDOW_MS, System::currentTimeMillis);
+    }
+
+    JodisHotKeySampler(int sampleRate, int capacity, long windowMs, LongSupplier clock) {
+        Assert.isTrue(sampleRate > 0, "Sample rate must be positive");
+        Assert.isTrue(capacity > 0, "Capacity must be positive");
+        Assert.isTrue(windowMs > 0, "Window must be positive");
+        this.sampleRate = sampleRate;
+        this.capacity = capacity;
+        this.windowMs = windowMs;
+        this.clock = clock;
+        this.current = new Window(clock.getAsLong() / windowMs, capacity);
+
+        int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+        this.buffers = new Buffer[stripes];
+        for (int i = 0; i < stripes; i++) {
+            buffers[i] = new Buffer();
+        }
+    }
+
+    public void sample(String command, byte[] key) {
+        if (key == null || (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0)) {
+            return;
+        }
+
+        boolean write = WRITE_COMMANDS.contains(command);
+        long index = clock.getAsLong() / windowMs;
+        Buffer buffer = buffers[(int) Thread.currentThread().getId() & (buffers.length - 1)];
+        synchronized (buffer) {
+            if (buffer.size > 0 && (buffer.size == BUFFER_SIZE || buffer.index != index)) {
+                if (lock.tryLock()) {
+                    try {
+                        merge(buffer);
+                    } finally {
+                        lock.unlock();
+                    }
+                } else {
+                    buffer.size = 0;
+                }
+            }
+            buffer.add(index, key, write);
+        }
+    }
+
+    /**
+     * Returns the tracked keys, hottest first, of the last completed window or of the window in progress.
+     * Counts are scaled back by the sample rate.
+     */
+    public List<HotKey> getHotKeys(boolean inProgress) {
+        lock.lock();
+        try {
+            for (Buffer buffer : buffers) {
+                synchronized (buffer) {
+                    merge(buffer);
+                }
+            }
+            rotate(clock.getAsLong() / windowMs);
+
+            Window window = inProgress ? current : previous;
+            if (window == null) {
+                return Collections.emptyList();
+            }
+
+            List<HotKey> hotKeys = new ArrayList<>(window.byKey.size());
+            for (Entry entry : window.byKey.values()) {
+                hotKeys.add(new HotKey(entry.key.getArray(), window.index * windowMs,
+                        entry.bucket.count * sampleRate, entry.error * sampleRate,
+                        entry.reads * sampleRate, entry.writes * sampleRate));
+            }
+            hotKeys.sort((left, right) -> Long.compare(right.count, left.count));
+            return hotKeys;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves the samples of {@code buffer} into the window they were taken in, called holding both locks.
+     */
+    private void merge(Buffer buffer) {
+        if (buffer.size == 0) {
+            return;
+        }
+
+        rotate(buffer.index);
+        Window window = buffer.index == current.index ? current
+                : previous != null && buffer.index == previous.index ? previous : null;
+        if (window != null) {
+            for (int i = 0; i < buffer.size; i++) {
+                window.offer(buffer.keys[i], buffer.writes[i]);
+            }
+        }
+        Arrays.fill(buffer.keys, 0, buffer.size, null);
+        buffer.size = 0;
+    }
+
+    private void rotate(long index) {
+        if (index <= current.index) {
+            return;
+        }
+
+        // a gap of more than one window means nothing was sampled in the last completed one
+        previous = index == current.index + 1 ? current : new Window(index - 1, 0);
+        current = new Window(index, capacity);
+    }
+
+    /**
+     * Samples of one thread stripe, all from the window {@code index}, guarded by the buffer's monitor.
+     */
+    private static class Buffer {
+        private final byte[][] keys = new byte[BUFFER_SIZE][];
+        private final boolean[] writes = new boolean[BUFFER_SIZE];
+        private long index;
+        private int size;
+
+        void add(long index, byte[] key, boolean write) {
+            this.index = index;
+            keys[size] = key;
+            writes[size] = write;
+            size++;
+        }
+    }
+
+    /**
+     * Space-Saving over at most {@code capacity} keys: an untracked key evicts the least counted one and
+     * inherits its count as error. Entries hang off buckets of equal count, kept in ascending order, so the
+     * least counted entry is the head of the first bucket.
+     */
+    private static class Window {
+        private final long index;
+        private final int capacity;
+        private final Map<ByteArrayWrapper, Entry> byKey;
+        private Bucket min;
+
+        Window(long index, int capacity) {
+            this.index = index;
+            this.capacity = capacity;
+            this.byKey = new HashMap<>(capacity * 2);
+        }
+
+        void offer(byte[] key, boolean write) {
+            ByteArrayWrapper wrapper = new ByteArrayWrapper(key);
+            Entry entry = byKey.get(wrapper);
+            if (entry != null) {
+                increment(entry);
+            } else if (byKey.size() < capacity) {
+                entry = new Entry(wrapper, 0);
+                byKey.put(wrapper, entry);
+                if (min == null || min.count != 1) {
+                    Bucket first = new Bucket(1);
+                    first.next = min;
+                    if (min != null) {
+                        min.prev = first;
+                    }
+                    min = first;
+                }
+                min.attach(entry);
+            } else if (capacity > 0) {
+                Entry evicted = min.head;
+                byKey.remove(evicted.key);
+                entry = new Entry(wrapper, min.count);
+                byKey.put(wrapper, entry);
+                min.detach(evicted);
+                min.attach(entry);
+                increment(entry);
+            } else {
+                return;
+            }
+
+            if (write) {
+                entry.writes++;
+            } else {
+                entry.reads++;
+            }
+        }
+
+        private void increment(Entry entry) {
+            Bucket bucket = entry.bucket;
+            Bucket next = bucket.next;
+            if (next == null || next.count != bucket.count + 1) {
+                next = new Bucket(bucket.count + 1);
+                next.prev = bucket;
+                next.next = bucket.next;
+                if (bucket.next != null) {
+                    bucket.next.prev = next;
+                }
+                bucket.next = next;
+            }
+
+            bucket.detach(entry);
+            next.attach(entry);
+            if (bucket.head == null) {
+                unlink(bucket);
+            }
+        }
+
+        private void unlink(Bucket bucket) {
+            if (bucket.prev != null) {
+                bucket.prev.next = bucket.next;
+            } else {
+                min = bucket.next;
+            }
+            if (bucket.next != null) {
+                bucket.next.prev = bucket.prev;
+            }
+        }
+    }
+
+    private static class Bucket {
+        private final long count;
+        private Bucket prev;
+        private Bucket next;
+        private Entry head;
+
+        Bucket(long count) {
+            this.count = count;
+        }
+
+        void attach(Entry entry) {
+            entry.bucket = this;
+            entry.prev = null;
+            entry.next = head;
+            if (head != null) {
+                head.prev = entry;
+            }
+            head = entry;
+        }
+
+        void detach(Entry entry) {
+            if (entry.prev != null) {
+                entry.prev.next = entry.next;
+            } else {
+                head = entry.next;
+            }
+            if (entry.next != null) {
+                entry.next.prev = entry.prev;
+            }
+            entry.prev = null;
+            entry.next = null;
+        }
+    }
+
+    private static class Entry {
+        private final ByteArrayWrapper key;
+        private final long error;
+        private long reads;
+        private long writes;
+        private Bucket bucket;
+        private Entry prev;
+        private Entry next;
+
+        Entry(ByteArrayWrapper key, long error) {
+            this.key = key;
+            this.error = error;
+        }
+    }
+
+    @Getter
+    public static class HotKey {
+        private final byte[] key;
+        private final long windowStart;
+        private final long count;
+        private final long error;
+        private final long reads;
+        private final long writes;
+
+        HotKey(byte[] key, long windowStart, long count, long error, long reads, long writes) {
+            this.key = key;
+            this.windowStart = windowStart;
+            this.count = count;
+            this.error = error;
+            this.reads = reads;
+            this.writes = writes;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.springframework.data.redis.connection;
+
+/**
+ * Receives timings and contention of the locks handed out by a {@link org.springframework.data.redis.connection.jedis.JodisLockRegistry}.
+ * Lock names are not passed on, as there may be one lock per business entity.
+ */
+public interface JodisLockMetrics {
+
+    /**
+     * @param acquired whether the lock was acquired or the wait ran out.
+     */
+    void recordAcquire(boolean acquired, long nanos);
+
+    void recordRelease(long nanos);
+
+    /**
+     * An attempt found the lock held by another owner.
+     */
+    void recordContention();
+
+    /**
+     * A held lock expired or was taken over before it was renewed or released.
+     */
+    void recordLost();
+}
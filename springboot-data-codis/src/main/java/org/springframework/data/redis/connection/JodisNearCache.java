@@ -0,0 +1,314 @@
+package org.springframework.data.redis.connection;
+
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.util.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, TTL-based local cache of string values and hash fields, shared by the connections of one factory.
+ * <p>
+ * Readers take a {@link #stamp(byte[])} of the key before going to Codis and hand it back on {@code put}.
+ * Invalidating a key bumps the version of its stripe, so a value read while the key was being written is
+ * dropped and a write through the factory is never shadowed by the value it replaced. Writes made by other
+ * clients are only picked up once the entry expires.
+ * <p>
+ * Every string value and hash field weighs one towards {@code maximumSize}. Keys are spread over segments,
+ * each evicting its least recently used keys once over its share of the weight.
+ */
+public class JodisNearCache {
+
+    private static final int VERSION_STRIPES = 4096;
+    private static final int MAXIMUM_SEGMENTS = 16;
+    private static final int MINIMUM_SEGMENT_WEIGHT = 64;
+
+    private final byte[][] keyPrefixes;
+    private final long timeToLiveNanos;
+
+    private final Segment[] segments;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public JodisNearCache(JodisNearCacheConfiguration config) {
+        Assert.isTrue(config.getMaximumSize() > 0, "Maximum size must be positive!");
+        Assert.isTrue(config.getTimeToLiveMs() > 0, "Time to live must be positive!");
+
+        List<String> prefixes = config.getKeyPrefixes();
+        this.keyPrefixes = new byte[prefixes.size()][];
+        for (int i = 0; i < prefixes.size(); i++) {
+            keyPrefixes[i] = prefixes.get(i).getBytes(StandardCharsets.UTF_8);
+        }
+        this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(config.getTimeToLiveMs());
+
+        int segmentCount = 1;
+        while (segmentCount < MAXIMUM_SEGMENTS
+                && config.getMaximumSize() / (segmentCount * 2) >= MINIMUM_SEGMENT_WEIGHT) {
+            segmentCount *= 2;
+        }
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            int share = config.getMaximumSize() / segmentCount + (i < config.getMaximumSize() % segmentCount ? 1 : 0);
+            segments[i] = new Segment(share);
+        }
+    }
+
+    public boolean isCacheable(byte[] key) {
+        if (keyPrefixes.length == 0) {
+            return true;
+        }
+
+        for (byte[] prefix : keyPrefixes) {
+            if (startsWith(key, prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long stamp(byte[] key) {
+        return versions.get(stripe(key));
+    }
+
+    /**
+     * @return the cached value, possibly wrapping {@literal null}, or {@literal null} on a miss.
+     */
+    public ValueWrapper get(byte[] key) {
+        ByteArrayWrapper wrapper = new ByteArrayWrapper(key);
+        Segment segment = segmentFor(wrapper);
+        synchronized (segment) {
+            CachedKey cached = segment.lookup(wrapper);
+            return record(cached != null ? cached.value : null);
+        }
+    }
+
+    /**
+     * @return the cached hash field, possibly wrapping {@literal null}, or {@literal null} on a miss.
+     */
+    public ValueWrapper get(byte[] key, byte[] field) {
+        ByteArrayWrapper wrapper = new ByteArrayWrapper(key);
+        Segment segment = segmentFor(wrapper);
+        synchronized (segment) {
+            CachedKey cached = segment.lookup(wrapper);
+            return record(cached != null ? cached.fields.get(new ByteArrayWrapper(field)) : null);
+        }
+    }
+
+    public void put(byte[] key, byte[] value, long stamp) {
+        ByteArrayWrapper wrapper = new ByteArrayWrapper(key);
+        Segment segment = segmentFor(wrapper);
+        synchronized (segment) {
+            // checked under the segment lock, which invalidate takes after bumping the version
+            if (stamp(key) != stamp) {
+                return;
+            }
+            CachedKey cached = segment.prepare(wrapper);
+            if (cached.value == null) {
+                if (cached.weight >= segment.maximumWeight) {
+                    return;
+                }
+                segment.weigh(cached, 1);
+            }
+            cached.value = new SimpleValueWrapper(value);
+            segment.evict(cached);
+        }
+    }
+
+    public void put(byte[] key, byte[] field, byte[] value, long stamp) {
+        ByteArrayWrapper wrapper = new ByteArrayWrapper(key);
+        Segment segment = segmentFor(wrapper);
+        synchronized (segment) {
+            if (stamp(key) != stamp) {
+                return;
+            }
+            CachedKey cached = segment.prepare(wrapper);
+            ByteArrayWrapper fieldWrapper = new ByteArrayWrapper(field);
+            if (!cached.fields.containsKey(fieldWrapper)) {
+                // a hash wider than the segment keeps only the fields that fit
+                if (cached.weight >= segment.maximumWeight) {
+                    return;
+                }
+                segment.weigh(cached, 1);
+            }
+            cached.fields.put(fieldWrapper, new SimpleValueWrapper(value));
+            segment.evict(cached);
+        }
+    }
+
+    /**
+     * Drops {@code keys}, ignoring the ones this cache cannot hold.
+     */
+    public void invalidate(byte[]... keys) {
+        for (byte[] key : keys) {
+            if (!isCacheable(key)) {
+                continue;
+            }
+
+            versions.incrementAndGet(stripe(key));
+            ByteArrayWrapper wrapper = new ByteArrayWrapper(key);
+            Segment segment = segmentFor(wrapper);
+            synchronized (segment) {
+                segment.remove(wrapper);
+            }
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < VERSION_STRIPES; i++) {
+            versions.incrementAndGet(i);
+        }
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.entries.clear();
+                segment.weight = 0;
+            }
+        }
+    }
+
+    /**
+     * @return the number of cached keys.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private ValueWrapper record(ValueWrapper value) {
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    private Segment segmentFor(ByteArrayWrapper key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) >>> 12 & (segments.length - 1)];
+    }
+
+    private static int stripe(byte[] key) {
+        // same hash as ByteArrayWrapper
+        return Arrays.hashCode(key) & (VERSION_STRIPES - 1);
+    }
+
+    private static boolean startsWith(byte[] key, byte[] prefix) {
+        if (key.length < prefix.length) {
+            return false;
+        }
+
+        for (int i = 0; i < prefix.length; i++) {
+            if (key[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Keys in access order, guarded by the segment's monitor.
+     */
+    private class Segment {
+        private final int maximumWeight;
+        private final LinkedHashMap<ByteArrayWrapper, CachedKey> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long weight;
+
+        Segment(int maximumWeight) {
+            this.maximumWeight = maximumWeight;
+        }
+
+        CachedKey lookup(ByteArrayWrapper key) {
+            CachedKey cached = entries.get(key);
+            if (cached != null && cached.isExpired(System.nanoTime())) {
+                remove(key);
+                return null;
+            }
+            return cached;
+        }
+
+        /**
+         * @return the entry of {@code key}, created if absent.
+         */
+        CachedKey prepare(ByteArrayWrapper key) {
+            CachedKey cached = lookup(key);
+            if (cached == null) {
+                cached = new CachedKey(System.nanoTime() + timeToLiveNanos);
+                entries.put(key, cached);
+            }
+            return cached;
+        }
+
+        void weigh(CachedKey cached, int delta) {
+            cached.weight += delta;
+            weight += delta;
+        }
+
+        void remove(ByteArrayWrapper key) {
+            CachedKey cached = entries.remove(key);
+            if (cached != null) {
+                weight -= cached.weight;
+            }
+        }
+
+        /**
+         * Drops the least recently used keys other than {@code current} until the segment fits.
+         */
+        void evict(CachedKey current) {
+            Iterator<CachedKey> iterator = entries.values().iterator();
+            while (weight > maximumWeight && iterator.hasNext()) {
+                CachedKey eldest = iterator.next();
+                if (eldest == current) {
+                    continue;
+                }
+                iterator.remove();
+                weight -= eldest.weight;
+                evictions.increment();
+            }
+        }
+    }
+
+    private static class CachedKey {
+        private final long expiresAt;
+        private final Map<ByteArrayWrapper, ValueWrapper> fields = new HashMap<>();
+        private ValueWrapper value;
+        private int weight;
+
+        CachedKey(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.springframework.data.redis.connection;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JodisNearCacheConfiguration {
+    /**
+     * Prefixes of the keys to cache, all keys when empty.
+     */
+    private List<String> keyPrefixes = new ArrayList<>();
+    /**
+     * Maximum number of string values and hash fields held.
+     */
+    private int maximumSize = 10000;
+    private long timeToLiveMs = 1000;
+}
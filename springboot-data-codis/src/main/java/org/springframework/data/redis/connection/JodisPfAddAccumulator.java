@@ -0,0 +1,158 @@
+package org.springframework.data.redis.connection;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Buffers {@code PFADD} values per key and writes them as one multi-value {@code PFADD} per key, all keys of a
+ * flush sharing one pipeline.
+ * <p>
+ * Values are flushed every {@code flushIntervalMs}, and by the adding thread once {@code maxPendingValues} distinct
+ * values are buffered. Duplicates within an interval are sent once. Values of a failed flush are kept for the next
+ * one as long as the buffer has room, which is safe as {@code PFADD} is idempotent.
+ */
+@Slf4j
+public class JodisPfAddAccumulator implements DisposableBean {
+
+    private final RedisConnectionFactory connectionFactory;
+    private final int maxPendingValues;
+    private final ScheduledExecutorService scheduler;
+
+    private final ConcurrentMap<ByteArrayWrapper, Set<ByteArrayWrapper>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingValues = new AtomicInteger();
+
+    /**
+     * @param flushIntervalMs interval of the background flush, {@code 0} to only flush when the buffer is full or on
+     *                        {@link #flush()}.
+     */
+    public JodisPfAddAccumulator(RedisConnectionFactory connectionFactory, long flushIntervalMs, int maxPendingValues) {
+        Assert.isTrue(flushIntervalMs >= 0, "Flush interval must not be negative!");
+        Assert.isTrue(maxPendingValues > 0, "Maximum pending values must be positive!");
+
+        this.connectionFactory = connectionFactory;
+        this.maxPendingValues = maxPendingValues;
+
+        if (flushIntervalMs > 0) {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("jodis-pfadd-");
+            threadFactory.setDaemon(true);
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+            scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    public void add(byte[] key, byte[]... values) {
+        Assert.notNull(key, "Key must not be null!");
+        Assert.noNullElements(values, "Values must not contain 'null'.");
+
+        int added = addPending(new ByteArrayWrapper(key), values);
+        if (pendingValues.addAndGet(added) >= maxPendingValues) {
+            flush();
+        }
+    }
+
+    public int getPendingValues() {
+        return pendingValues.get();
+    }
+
+    /**
+     * Writes all buffered values.
+     */
+    public synchronized void flush() {
+        Map<byte[], byte[][]> batch = drain();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        RedisConnection connection = connectionFactory.getConnection();
+        try {
+            connection.openPipeline();
+            for (Map.Entry<byte[], byte[][]> entry : batch.entrySet()) {
+                connection.pfAdd(entry.getKey(), entry.getValue());
+            }
+            connection.closePipeline();
+        } catch (RuntimeException ex) {
+            requeue(batch);
+            throw ex;
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        flushQuietly();
+    }
+
+    /**
+     * Takes all buffered values out of the buffer, by key.
+     */
+    Map<byte[], byte[][]> drain() {
+        Map<byte[], byte[][]> batch = new LinkedHashMap<>();
+        for (ByteArrayWrapper key : pending.keySet()) {
+            Set<ByteArrayWrapper> values = pending.remove(key);
+            if (values == null) {
+                continue;
+            }
+
+            byte[][] array = new byte[values.size()][];
+            int i = 0;
+            for (ByteArrayWrapper value : values) {
+                array[i++] = value.getArray();
+            }
+            pendingValues.addAndGet(-array.length);
+            batch.put(key.getArray(), array);
+        }
+        return batch;
+    }
+
+    private int addPending(ByteArrayWrapper key, byte[]... values) {
+        int[] added = new int[1];
+        pending.compute(key, (k, current) -> {
+            Set<ByteArrayWrapper> set = current != null ? current : new HashSet<>();
+            for (byte[] value : values) {
+                if (set.add(new ByteArrayWrapper(value))) {
+                    added[0]++;
+                }
+            }
+            return set;
+        });
+        return added[0];
+    }
+
+    private void requeue(Map<byte[], byte[][]> batch) {
+        for (Map.Entry<byte[], byte[][]> entry : batch.entrySet()) {
+            if (pendingValues.get() + entry.getValue().length > maxPendingValues) {
+                log.warn("Dropping {} PFADD values of a failed flush, the buffer is full", entry.getValue().length);
+                continue;
+            }
+            pendingValues.addAndGet(addPending(new ByteArrayWrapper(entry.getKey()), entry.getValue()));
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception ex) {
+            log.warn("Cannot flush PFADD values", ex);
+        }
+    }
+}
@@ -7,4 +7,7 @@ public interface JodisResourceProvider {
     <S> S getResource(JedisResourcePool resourcePool);
 
     void returnResource(Jedis resource);
+
+    default void release() {
+    }
 }
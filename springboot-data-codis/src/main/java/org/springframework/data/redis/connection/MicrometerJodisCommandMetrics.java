@@ -0,0 +1,97 @@
+package org.springframework.data.redis.connection;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import redis.clients.jedis.Client;
+import redis.clients.jedis.Jedis;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JodisCommandMetrics} publishing to Micrometer, tagged by command and proxy address:
+ * <ul>
+ * <li>{@code jodis.command.pool.wait}: time spent borrowing a resource</li>
+ * <li>{@code jodis.command.execution}: command latency, with a percentile histogram</li>
+ * <li>{@code jodis.command.errors}: failed commands, additionally tagged by exception</li>
+ * </ul>
+ * Nothing is recorded until the binder is bound to a registry.
+ */
+public class MicrometerJodisCommandMetrics implements JodisCommandMetrics, MeterBinder {
+
+    private static final String UNKNOWN_PROXY = "unknown";
+
+    private volatile MeterRegistry registry;
+    private final ConcurrentMap<String, ConcurrentMap<String, CommandMeters>> meters = new ConcurrentHashMap<>();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        meters.clear();
+    }
+
+    @Override
+    public void recordPoolWait(String command, Jedis resource, long nanos) {
+        CommandMeters commandMeters = getMeters(command, resource);
+        if (commandMeters != null) {
+            commandMeters.poolWait.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void recordExecution(String command, Jedis resource, long nanos) {
+        CommandMeters commandMeters = getMeters(command, resource);
+        if (commandMeters != null) {
+            commandMeters.execution.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void recordError(String command, Jedis resource, Throwable ex) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry != null) {
+            Counter.builder("jodis.command.errors")
+                    .tags("command", command, "proxy", proxyOf(resource), "exception", ex.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    private CommandMeters getMeters(String command, Jedis resource) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            return null;
+        }
+
+        String proxy = proxyOf(resource);
+        return meters.computeIfAbsent(command, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(proxy, key -> new CommandMeters(meterRegistry, command, proxy));
+    }
+
+    private static String proxyOf(Jedis resource) {
+        if (resource == null) {
+            return UNKNOWN_PROXY;
+        }
+
+        Client client = resource.getClient();
+        return client.getHost() + ":" + client.getPort();
+    }
+
+    private static class CommandMeters {
+        private final Timer poolWait;
+        private final Timer execution;
+
+        CommandMeters(MeterRegistry registry, String command, String proxy) {
+            this.poolWait = Timer.builder("jodis.command.pool.wait")
+                    .tags("command", command, "proxy", proxy)
+                    .register(registry);
+            this.execution = Timer.builder("jodis.command.execution")
+                    .tags("command", command, "proxy", proxy)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+}
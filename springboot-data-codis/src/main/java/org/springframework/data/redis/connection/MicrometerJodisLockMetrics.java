@@ -0,0 +1,76 @@
+package org.springframework.data.redis.connection;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JodisLockMetrics} publishing to Micrometer:
+ * <ul>
+ * <li>{@code jodis.lock.acquire}: time to acquire, tagged by {@code result} {@code acquired} or {@code timeout}</li>
+ * <li>{@code jodis.lock.release}: time to release</li>
+ * <li>{@code jodis.lock.contention}: attempts finding the lock held by another owner</li>
+ * <li>{@code jodis.lock.lost}: locks lost before they were released</li>
+ * </ul>
+ * Nothing is recorded until the binder is bound to a registry.
+ */
+public class MicrometerJodisLockMetrics implements JodisLockMetrics, MeterBinder {
+
+    private volatile Meters meters;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meters = new Meters(registry);
+    }
+
+    @Override
+    public void recordAcquire(boolean acquired, long nanos) {
+        Meters current = meters;
+        if (current != null) {
+            (acquired ? current.acquired : current.timedOut).record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void recordRelease(long nanos) {
+        Meters current = meters;
+        if (current != null) {
+            current.release.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void recordContention() {
+        Meters current = meters;
+        if (current != null) {
+            current.contention.increment();
+        }
+    }
+
+    @Override
+    public void recordLost() {
+        Meters current = meters;
+        if (current != null) {
+            current.lost.increment();
+        }
+    }
+
+    private static class Meters {
+        private final Timer acquired;
+        private final Timer timedOut;
+        private final Timer release;
+        private final Counter contention;
+        private final Counter lost;
+
+        Meters(MeterRegistry registry) {
+            this.acquired = Timer.builder("jodis.lock.acquire").tags("result", "acquired").register(registry);
+            this.timedOut = Timer.builder("jodis.lock.acquire").tags("result", "timeout").register(registry);
+            this.release = Timer.builder("jodis.lock.release").register(registry);
+            this.contention = Counter.builder("jodis.lock.contention").register(registry);
+            this.lost = Counter.builder("jodis.lock.lost").register(registry);
+        }
+    }
+}
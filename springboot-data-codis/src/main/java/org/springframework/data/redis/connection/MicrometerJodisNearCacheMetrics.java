@@ -0,0 +1,44 @@
+package org.springframework.data.redis.connection;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the counters of a {@link JodisNearCache} to Micrometer:
+ * <ul>
+ * <li>{@code jodis.near-cache.hits}: reads answered by the near cache</li>
+ * <li>{@code jodis.near-cache.misses}: reads going to Codis</li>
+ * <li>{@code jodis.near-cache.evictions}: keys evicted to stay within the maximum size</li>
+ * <li>{@code jodis.near-cache.size}: cached keys</li>
+ * </ul>
+ * Binds nothing when the near cache is disabled.
+ */
+public class MicrometerJodisNearCacheMetrics implements MeterBinder {
+
+    private final JodisNearCache nearCache;
+
+    /**
+     * @param nearCache the near cache, {@literal null} when disabled.
+     */
+    public MicrometerJodisNearCacheMetrics(JodisNearCache nearCache) {
+        this.nearCache = nearCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (nearCache == null) {
+            return;
+        }
+
+        FunctionCounter.builder("jodis.near-cache.hits", nearCache, JodisNearCache::getHitCount)
+                .register(registry);
+        FunctionCounter.builder("jodis.near-cache.misses", nearCache, JodisNearCache::getMissCount)
+                .register(registry);
+        FunctionCounter.builder("jodis.near-cache.evictions", nearCache, JodisNearCache::getEvictionCount)
+                .register(registry);
+        Gauge.builder("jodis.near-cache.size", nearCache, JodisNearCache::size)
+                .register(registry);
+    }
+}
@@ -0,0 +1,49 @@
+package org.springframework.data.redis.connection;
+
+import io.codis.jodis.JedisResourcePool;
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.Jedis;
+
+/**
+ * Binds one {@link Jedis} on first use and keeps it until {@link #release()}, so a
+ * connection running several commands pays a single pool checkout.
+ * A broken resource is handed back to the pool and replaced on the next command.
+ */
+@Slf4j
+public class PinnedJodisResourceProvider implements JodisResourceProvider {
+
+    private Jedis resource;
+
+    /**
+     * The executors only ever ask for a {@link Jedis}, {@code S} is inferred at their call site.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S> S getResource(JedisResourcePool resourcePool) {
+        if (resource != null && resource.getClient().isBroken()) {
+            release();
+        }
+        if (resource == null) {
+            resource = resourcePool.getResource();
+        }
+        return (S) resource;
+    }
+
+    @Override
+    public void returnResource(Jedis resource) {
+        // kept until the owning connection is closed
+    }
+
+    @Override
+    public void release() {
+        if (resource != null) {
+            try {
+                resource.close();
+            } catch (Exception ex) {
+                log.warn("Cannot properly return pinned jodis resource", ex);
+            } finally {
+                resource = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.springframework.data.redis.connection;
+
+import io.codis.jodis.JedisResourcePool;
+import redis.clients.jedis.Jedis;
+
+/**
+ * Borrows a {@link Jedis} from the pool for every command and returns it right afterwards.
+ */
+public class PooledJodisResourceProvider implements JodisResourceProvider {
+
+    /**
+     * The executors only ever ask for a {@link Jedis}, {@code S} is inferred at their call site.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S> S getResource(JedisResourcePool resourcePool) {
+        return (S) resourcePool.getResource();
+    }
+
+    @Override
+    public void returnResource(Jedis resource) {
+        resource.close();
+    }
+}
@@ -0,0 +1,67 @@
+package org.springframework.data.redis.connection.jedis;
+
+import redis.clients.jedis.Client;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.util.SafeEncoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Codis proxy commands which are not part of {@link redis.clients.jedis.Protocol.Command}.
+ * <p>
+ * Jedis only sends its own command enum, so the request is written to the socket directly once the
+ * client's buffer is flushed, and the raw reply is read back through the client, leaving its count of
+ * pipelined commands untouched.
+ */
+enum CodisCommand {
+
+    SLOTSSCAN;
+
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final byte[] raw = SafeEncoder.encode(name());
+
+    List<Object> executeForMultiBulkReply(Jedis jedis, byte[]... args) {
+        Client client = jedis.getClient();
+        client.connect();
+        // flushes the client's buffer without reading any reply
+        client.getAll(Integer.MAX_VALUE);
+        try {
+            OutputStream out = client.getSocket().getOutputStream();
+            out.write(encode(args));
+            out.flush();
+        } catch (IOException ex) {
+            client.disconnect();
+            throw new JedisConnectionException(ex);
+        }
+        return client.getRawObjectMultiBulkReply();
+    }
+
+    private byte[] encode(byte[]... args) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeLine(out, '*', args.length + 1);
+        writeArgument(out, raw);
+        for (byte[] arg : args) {
+            writeArgument(out, arg);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeArgument(ByteArrayOutputStream out, byte[] arg) {
+        writeLine(out, '$', arg.length);
+        out.write(arg, 0, arg.length);
+        out.write(CRLF, 0, CRLF.length);
+    }
+
+    private static void writeLine(ByteArrayOutputStream out, char type, int value) {
+        byte[] digits = String.valueOf(value).getBytes(StandardCharsets.US_ASCII);
+        out.write(type);
+        out.write(digits, 0, digits.length);
+        out.write(CRLF, 0, CRLF.length);
+    }
+}
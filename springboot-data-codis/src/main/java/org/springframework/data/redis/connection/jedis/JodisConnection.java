@@ -1,8 +1,11 @@
 package org.springframework.data.redis.connection.jedis;
 
 import io.codis.jodis.JedisResourcePool;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
+import org.springframework.cache.Cache;
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.geo.*;
 import org.springframework.data.redis.ExceptionTranslationStrategy;
@@ -20,8 +23,12 @@ import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
 import redis.clients.jedis.*;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
+import redis.clients.jedis.params.geo.GeoRadiusParam;
 
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -30,26 +37,77 @@ public class JodisConnection implements RedisClusterConnection {
     private static final ExceptionTranslationStrategy EXCEPTION_TRANSLATION = new FallbackExceptionTranslationStrategy(
             JedisConverters.exceptionConverter());
 
+    private static final long KEYS_SCAN_COUNT = 1000;
+    private static final long SORT_STORE_PAGE_SIZE = 1000;
+    private static final int SORT_STORE_TEMP_TTL_SECONDS = 3600;
+
     private final JedisResourcePool resourcePool;
+    private final JodisResourceProvider resourceProvider;
     private JodisCommandExecutor executor;
     private boolean closed;
-
-    private volatile JedisSubscription subscription;
+    private boolean convertPipelineAndTxResults = true;
+
+    private Jedis pipelineResource;
+    private Pipeline pipeline;
+    private List<JedisResult> pipelinedResults = new ArrayList<>();
+    private List<byte[]> pipelinedWrites = new ArrayList<>();
+
+    @Setter
+    private Executor prefetchExecutor;
+    @Setter
+    private int scanParallelism = 1;
+    @Setter
+    private boolean scanPrefetch;
+    @Setter
+    private JodisScriptCache scriptCache = new JodisScriptCache();
+    @Setter
+    private JodisNearCache nearCache;
+    @Setter
+    private JodisSubscriberManager subscriberManager;
+    @Setter
+    private JedisResourcePool blockingResourcePool;
+
+    private volatile JodisSubscription subscription;
 
     public JodisConnection(JedisResourcePool resourcePool) {
+        this(resourcePool, new PooledJodisResourceProvider());
+    }
+
+    public JodisConnection(JedisResourcePool resourcePool, boolean convertPipelineAndTxResults) {
+        this(resourcePool, new PooledJodisResourceProvider(), convertPipelineAndTxResults);
+    }
+
+    public JodisConnection(JedisResourcePool resourcePool, JodisResourceProvider resourceProvider) {
+        this(resourcePool, resourceProvider, true);
+    }
+
+    public JodisConnection(JedisResourcePool resourcePool, JodisResourceProvider resourceProvider,
+                           boolean convertPipelineAndTxResults) {
+        this(resourcePool, new JodisCommandExecutor(resourceProvider), convertPipelineAndTxResults);
+    }
+
+    public JodisConnection(JedisResourcePool resourcePool, JodisCommandExecutor executor,
+                           boolean convertPipelineAndTxResults) {
         this.resourcePool = resourcePool;
+        this.resourceProvider = executor.getResourceProvider();
+        this.convertPipelineAndTxResults = convertPipelineAndTxResults;
 
         closed = false;
-        this.executor = new JodisCommandExecutor();
+        this.executor = executor;
     }
 
     @Override
     public void close() throws DataAccessException {
         if (!closed) {
-            try {
-                resourcePool.getResource().close();
-            } catch (Exception ex) {
-                log.warn("Cannot properly close jodis resource pool", ex);
+            pipeline = null;
+            pipelinedResults.clear();
+            pipelinedWrites.clear();
+            releasePipelineResource();
+            executor.destroy();
+
+            if (subscription != null) {
+                subscription.close();
+                subscription = null;
             }
         }
 
@@ -73,17 +131,112 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public boolean isPipelined() {
-        return false;
+        return pipeline != null;
     }
 
     @Override
     public void openPipeline() {
-        throw new UnsupportedOperationException("Pipeline is currently not supported for JodisConnection.");
+        if (pipeline == null) {
+            try {
+                pipelineResource = resourceProvider.getResource(resourcePool);
+                pipeline = pipelineResource.pipelined();
+            } catch (Exception ex) {
+                releasePipelineResource();
+                throw convertJedisAccessException(ex);
+            }
+        }
     }
 
     @Override
     public List<Object> closePipeline() throws RedisPipelineException {
-        throw new UnsupportedOperationException("Pipeline is currently not supported for JodisConnection.");
+        if (pipeline != null) {
+            try {
+                return convertPipelineResults();
+            } finally {
+                pipeline = null;
+                pipelinedResults.clear();
+                releasePipelineResource();
+                invalidatePipelinedWrites();
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    private List<Object> convertPipelineResults() {
+        try {
+            pipeline.sync();
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        }
+
+        List<Object> results = new ArrayList<>();
+        Exception cause = null;
+        for (JedisResult result : pipelinedResults) {
+            try {
+                Object data = result.get();
+                if (!convertPipelineAndTxResults || !result.isStatus()) {
+                    results.add(data);
+                }
+            } catch (JedisDataException ex) {
+                DataAccessException dataAccessException = convertJedisAccessException(ex);
+                if (cause == null) {
+                    cause = dataAccessException;
+                }
+                results.add(dataAccessException);
+            } catch (DataAccessException ex) {
+                if (cause == null) {
+                    cause = ex;
+                }
+                results.add(ex);
+            }
+        }
+
+        if (cause != null) {
+            throw new RedisPipelineException(cause, results);
+        }
+        return results;
+    }
+
+    private void pipeline(JedisResult result) {
+        pipelinedResults.add(result);
+    }
+
+    private void invalidateNearCache(byte[]... keys) {
+        if (nearCache == null) {
+            return;
+        }
+
+        nearCache.invalidate(keys);
+        if (isPipelined()) {
+            // pipelined writes only land on sync, so invalidate them again once they did
+            Collections.addAll(pipelinedWrites, keys);
+        }
+    }
+
+    private void invalidatePipelinedWrites() {
+        if (nearCache != null && !pipelinedWrites.isEmpty()) {
+            nearCache.invalidate(pipelinedWrites.toArray(new byte[pipelinedWrites.size()][]));
+            pipelinedWrites.clear();
+        }
+    }
+
+    private void releasePipelineResource() {
+        if (pipelineResource != null) {
+            try {
+                // a pinned resource outlives the pipeline and must leave pipeline mode
+                pipelineResource.resetState();
+            } catch (Exception ex) {
+                log.warn("Cannot properly reset jodis pipeline resource", ex);
+            }
+
+            try {
+                resourceProvider.returnResource(pipelineResource);
+            } catch (Exception ex) {
+                log.warn("Cannot properly return jodis pipeline resource", ex);
+            } finally {
+                pipelineResource = null;
+            }
+        }
     }
 
     @Override
@@ -98,17 +251,73 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long pfAdd(byte[] key, byte[]... values) {
-        throw new UnsupportedOperationException("PfAdd is currently not supported for JodisConnection.");
+        Assert.notEmpty(values, "PFADD requires at least one non 'null' value.");
+        Assert.noNullElements(values, "Values for PFADD must not contain 'null'.");
+
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.pfadd(key, values)));
+            return null;
+        }
+
+        try {
+            return executor.executeCommandInResourcePool(resourcePool, "PFADD", key,
+                    (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
+                            client.pfadd(key, values))
+                    .getValue();
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        }
     }
 
     @Override
     public Long pfCount(byte[]... keys) {
-        throw new UnsupportedOperationException("PfCount is currently not supported for JodisConnection.");
+        Assert.notEmpty(keys, "PFCOUNT requires at least one non 'null' key.");
+        Assert.noNullElements(keys, "Keys for PFCOUNT must not contain 'null'.");
+
+        if (!CodisSlotHashUtil.isSameSlotForAllKeys(keys)) {
+            throw new InvalidDataAccessApiUsageException("PFCOUNT can only be executed when all keys map to the same slot");
+        }
+
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.pfcount(keys)));
+            return null;
+        }
+
+        try {
+            return executor.executeCommandInResourcePool(resourcePool, "PFCOUNT",
+                    (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
+                            client.pfcount(keys))
+                    .getValue();
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        }
     }
 
     @Override
     public void pfMerge(byte[] destinationKey, byte[]... sourceKeys) {
-        throw new UnsupportedOperationException("PfMerge is currently not supported for JodisConnection.");
+        Assert.notNull(destinationKey, "Destination key must not be null");
+        Assert.notEmpty(sourceKeys, "PFMERGE requires at least one non 'null' source key.");
+        Assert.noNullElements(sourceKeys, "Source keys for PFMERGE must not contain 'null'.");
+
+        if (!CodisSlotHashUtil.isSameSlotForAllKeys(ByteUtils.mergeArrays(destinationKey, sourceKeys))) {
+            throw new InvalidDataAccessApiUsageException("PFMERGE can only be executed when all keys map to the same slot");
+        }
+
+        if (isPipelined()) {
+            pipeline(new JedisStatusResult(pipeline.pfmerge(destinationKey, sourceKeys)));
+            invalidateNearCache(destinationKey);
+            return;
+        }
+
+        try {
+            executor.executeCommandInResourcePool(resourcePool, "PFMERGE",
+                    (JodisCommandExecutor.JodisCommandCallback<Jedis, String>) client ->
+                            client.pfmerge(destinationKey, sourceKeys));
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(destinationKey);
+        }
     }
 
     @Override
@@ -120,8 +329,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public byte[] echo(byte[] message) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.echo(message)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ECHO",
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, byte[]>) client ->
                             client.echo(message))
                     .getValue();
@@ -132,112 +346,343 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public String ping() {
-        return executor.executeCommandInResourcePool(resourcePool,
+        return executor.executeCommandInResourcePool(resourcePool, "PING",
                 (JodisCommandExecutor.JodisCommandCallback<Jedis, String>) BinaryJedis::ping)
                 .getValue().isEmpty() ? "PONG" : null;
     }
 
     @Override
     public Long geoAdd(byte[] key, Point point, byte[] member) {
-        throw new UnsupportedOperationException("GeoAdd is currently not supported for JodisConnection.");
+        Assert.notNull(key, "Key must not be null!");
+        Assert.notNull(point, "Point must not be null!");
+        Assert.notNull(member, "Member must not be null!");
+
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.geoadd(key, point.getX(), point.getY(), member)));
+            return null;
+        }
+
+        try {
+            return executor.executeCommandInResourcePool(resourcePool, "GEOADD", key,
+                    (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
+                            client.geoadd(key, point.getX(), point.getY(), member))
+                    .getValue();
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        }
     }
 
     @Override
     public Long geoAdd(byte[] key, GeoLocation<byte[]> location) {
-        throw new UnsupportedOperationException("GeoAdd is currently not supported for JodisConnection.");
+        Assert.notNull(location, "Location must not be null!");
+        return geoAdd(key, location.getPoint(), location.getName());
     }
 
     @Override
     public Long geoAdd(byte[] key, Map<byte[], Point> memberCoordinateMap) {
-        throw new UnsupportedOperationException("GeoAdd is currently not supported for JodisConnection.");
+        Assert.notNull(memberCoordinateMap, "MemberCoordinateMap must not be null!");
+
+        Map<byte[], GeoCoordinate> coordinates = new LinkedHashMap<>(memberCoordinateMap.size());
+        for (Map.Entry<byte[], Point> entry : memberCoordinateMap.entrySet()) {
+            coordinates.put(entry.getKey(), JedisConverters.toGeoCoordinate(entry.getValue()));
+        }
+        return geoAddAll(key, coordinates);
     }
 
     @Override
     public Long geoAdd(byte[] key, Iterable<GeoLocation<byte[]>> locations) {
-        throw new UnsupportedOperationException("GeoAdd is currently not supported for JodisConnection.");
+        Assert.notNull(locations, "Locations must not be null!");
+
+        Map<byte[], GeoCoordinate> coordinates = new LinkedHashMap<>();
+        for (GeoLocation<byte[]> location : locations) {
+            coordinates.put(location.getName(), JedisConverters.toGeoCoordinate(location.getPoint()));
+        }
+        return geoAddAll(key, coordinates);
+    }
+
+    /**
+     * Adds all members with a single GEOADD.
+     */
+    private Long geoAddAll(byte[] key, Map<byte[], GeoCoordinate> coordinates) {
+        Assert.notNull(key, "Key must not be null!");
+        Assert.notEmpty(coordinates, "GEOADD requires at least one member.");
+
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.geoadd(key, coordinates)));
+            return null;
+        }
+
+        try {
+            return executor.executeCommandInResourcePool(resourcePool, "GEOADD", key,
+                    (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
+                            client.geoadd(key, coordinates))
+                    .getValue();
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        }
     }
 
     @Override
     public Distance geoDist(byte[] key, byte[] member1, byte[] member2) {
-        throw new UnsupportedOperationException("GeoDist is currently not supported for JodisConnection.");
+        return geoDist(key, member1, member2, DistanceUnit.METERS);
     }
 
     @Override
     public Distance geoDist(byte[] key, byte[] member1, byte[] member2, Metric metric) {
-        throw new UnsupportedOperationException("GeoDist is currently not supported for JodisConnection.");
+        Assert.notNull(key, "Key must not be null!");
+        Assert.notNull(member1, "Member1 must not be null!");
+        Assert.notNull(member2, "Member2 must not be null!");
+        Assert.notNull(metric, "Metric must not be null!");
+
+        GeoUnit geoUnit = JedisConverters.toGeoUnit(metric);
+        Converter<Double, Distance> distanceConverter = JedisConverters.distanceConverterForMetric(metric);
+
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.geodist(key, member1, member2, geoUnit), distanceConverter));
+            return null;
+        }
+
+        try {
+            return distanceConverter.convert(executor.executeCommandInResourcePool(resourcePool, "GEODIST", key,
+                    (JodisCommandExecutor.JodisCommandCallback<Jedis, Double>) client ->
+                            client.geodist(key, member1, member2, geoUnit))
+                    .getValue());
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        }
     }
 
     @Override
     public List<String> geoHash(byte[] key, byte[]... members) {
-        throw new UnsupportedOperationException("GeoHash is currently not supported for JodisConnection.");
+        Assert.notNull(key, "Key must not be null!");
+        Assert.notNull(members, "Members must not be null!");
+        Assert.noNullElements(members, "Members must not contain null!");
+
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.geohash(key, members), JedisConverters.bytesListToStringListConverter()));
+            return null;
+        }
+
+        try {
+            return JedisConverters.bytesListToStringListConverter().convert(
+                    executor.executeCommandInResourcePool(resourcePool, "GEOHASH", key,
+                            (JodisCommandExecutor.JodisCommandCallback<Jedis, List<byte[]>>) client ->
+                                    client.geohash(key, members))
+                            .getValue());
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        }
     }
 
     @Override
     public List<Point> geoPos(byte[] key, byte[]... members) {
-        throw new UnsupportedOperationException("GeoPos is currently not supported for JodisConnection.");
+        Assert.notNull(key, "Key must not be null!");
+        Assert.notNull(members, "Members must not be null!");
+        Assert.noNullElements(members, "Members must not contain null!");
+
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.geopos(key, members), JedisConverters.geoCoordinateToPointConverter()));
+            return null;
+        }
+
+        try {
+            return JedisConverters.geoCoordinateToPointConverter().convert(
+                    executor.executeCommandInResourcePool(resourcePool, "GEOPOS", key,
+                            (JodisCommandExecutor.JodisCommandCallback<Jedis, List<GeoCoordinate>>) client ->
+                                    client.geopos(key, members))
+                            .getValue());
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        }
     }
 
     @Override
     public GeoResults<GeoLocation<byte[]>> geoRadius(byte[] key, Circle within) {
-        throw new UnsupportedOperationException("GeoRadius is currently not supported for JodisConnection.");
+        Assert.notNull(key, "Key must not be null!");
+        Assert.notNull(within, "Within must not be null!");
+
+        double longitude = within.getCenter().getX();
+        double latitude = within.getCenter().getY();
+        double radius = within.getRadius().getValue();
+        GeoUnit geoUnit = JedisConverters.toGeoUnit(within.getRadius().getMetric());
+        Converter<List<GeoRadiusResponse>, GeoResults<GeoLocation<byte[]>>> converter = JedisConverters
+                .geoRadiusResponseToGeoResultsConverter(within.getRadius().getMetric());
+
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.georadius(key, longitude, latitude, radius, geoUnit), converter));
+            return null;
+        }
+
+        try {
+            return converter.convert(executor.executeCommandInResourcePool(resourcePool, "GEORADIUS", key,
+                    (JodisCommandExecutor.JodisCommandCallback<Jedis, List<GeoRadiusResponse>>) client ->
+                            client.georadius(key, longitude, latitude, radius, geoUnit))
+                    .getValue());
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        }
     }
 
     @Override
     public GeoResults<GeoLocation<byte[]>> geoRadius(byte[] key, Circle within, GeoRadiusCommandArgs args) {
-        throw new UnsupportedOperationException("GeoRadius is currently not supported for JodisConnection.");
+        Assert.notNull(key, "Key must not be null!");
+        Assert.notNull(within, "Within must not be null!");
+        Assert.notNull(args, "Args must not be null!");
+
+        double longitude = within.getCenter().getX();
+        double latitude = within.getCenter().getY();
+        double radius = within.getRadius().getValue();
+        GeoUnit geoUnit = JedisConverters.toGeoUnit(within.getRadius().getMetric());
+        GeoRadiusParam geoRadiusParam = JedisConverters.toGeoRadiusParam(args);
+        Converter<List<GeoRadiusResponse>, GeoResults<GeoLocation<byte[]>>> converter = JedisConverters
+                .geoRadiusResponseToGeoResultsConverter(within.getRadius().getMetric());
+
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.georadius(key, longitude, latitude, radius, geoUnit, geoRadiusParam),
+                    converter));
+            return null;
+        }
+
+        try {
+            return converter.convert(executor.executeCommandInResourcePool(resourcePool, "GEORADIUS", key,
+                    (JodisCommandExecutor.JodisCommandCallback<Jedis, List<GeoRadiusResponse>>) client ->
+                            client.georadius(key, longitude, latitude, radius, geoUnit, geoRadiusParam))
+                    .getValue());
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        }
     }
 
     @Override
     public GeoResults<GeoLocation<byte[]>> geoRadiusByMember(byte[] key, byte[] member, double radius) {
-        throw new UnsupportedOperationException("GeoRadiusByMember is currently not supported for JodisConnection.");
+        return geoRadiusByMember(key, member, new Distance(radius, DistanceUnit.METERS));
     }
 
     @Override
     public GeoResults<GeoLocation<byte[]>> geoRadiusByMember(byte[] key, byte[] member, Distance radius) {
-        throw new UnsupportedOperationException("GeoRadiusByMember is currently not supported for JodisConnection.");
+        Assert.notNull(key, "Key must not be null!");
+        Assert.notNull(member, "Member must not be null!");
+        Assert.notNull(radius, "Radius must not be null!");
+
+        GeoUnit geoUnit = JedisConverters.toGeoUnit(radius.getMetric());
+        Converter<List<GeoRadiusResponse>, GeoResults<GeoLocation<byte[]>>> converter = JedisConverters
+                .geoRadiusResponseToGeoResultsConverter(radius.getMetric());
+
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.georadiusByMember(key, member, radius.getValue(), geoUnit), converter));
+            return null;
+        }
+
+        try {
+            return converter.convert(executor.executeCommandInResourcePool(resourcePool, "GEORADIUSBYMEMBER", key,
+                    (JodisCommandExecutor.JodisCommandCallback<Jedis, List<GeoRadiusResponse>>) client ->
+                            client.georadiusByMember(key, member, radius.getValue(), geoUnit))
+                    .getValue());
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        }
     }
 
     @Override
     public GeoResults<GeoLocation<byte[]>> geoRadiusByMember(byte[] key, byte[] member, Distance radius, GeoRadiusCommandArgs args) {
-        throw new UnsupportedOperationException("GeoRadiusByMember is currently not supported for JodisConnection.");
+        Assert.notNull(key, "Key must not be null!");
+        Assert.notNull(member, "Member must not be null!");
+        Assert.notNull(radius, "Radius must not be null!");
+        Assert.notNull(args, "Args must not be null!");
+
+        GeoUnit geoUnit = JedisConverters.toGeoUnit(radius.getMetric());
+        GeoRadiusParam geoRadiusParam = JedisConverters.toGeoRadiusParam(args);
+        Converter<List<GeoRadiusResponse>, GeoResults<GeoLocation<byte[]>>> converter = JedisConverters
+                .geoRadiusResponseToGeoResultsConverter(radius.getMetric());
+
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.georadiusByMember(key, member, radius.getValue(), geoUnit,
+                    geoRadiusParam), converter));
+            return null;
+        }
+
+        try {
+            return converter.convert(executor.executeCommandInResourcePool(resourcePool, "GEORADIUSBYMEMBER", key,
+                    (JodisCommandExecutor.JodisCommandCallback<Jedis, List<GeoRadiusResponse>>) client ->
+                            client.georadiusByMember(key, member, radius.getValue(), geoUnit, geoRadiusParam))
+                    .getValue());
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        }
     }
 
     @Override
     public Long geoRemove(byte[] key, byte[]... members) {
-        throw new UnsupportedOperationException("GeoRemove is currently not supported for JodisConnection.");
+        return zRem(key, members);
     }
 
     @Override
     public Boolean hSet(byte[] key, byte[] field, byte[] value) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.hset(key, field, value), JedisConverters.longToBoolean()));
+            invalidateNearCache(key);
+            return null;
+        }
+
         try {
-            return JedisConverters.toBoolean(executor.executeCommandInResourcePool(resourcePool,
+            return JedisConverters.toBoolean(executor.executeCommandInResourcePool(resourcePool, "HSET", key,
+                    (JodisCommandExecutor.JodisPipelineCallback<Long>) pipe -> pipe.hset(key, field, value),
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.hset(key, field, value))
                     .getValue());
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
     @Override
     public Boolean hSetNX(byte[] key, byte[] field, byte[] value) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.hsetnx(key, field, value), JedisConverters.longToBoolean()));
+            invalidateNearCache(key);
+            return null;
+        }
+
         try {
-            return JedisConverters.toBoolean(executor.executeCommandInResourcePool(resourcePool,
+            return JedisConverters.toBoolean(executor.executeCommandInResourcePool(resourcePool, "HSETNX", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.hsetnx(key, field, value))
                     .getValue());
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
     @Override
     public byte[] hGet(byte[] key, byte[] field) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.hget(key, field)));
+            return null;
+        }
+
+        boolean nearCached = nearCache != null && nearCache.isCacheable(key);
+        if (nearCached) {
+            Cache.ValueWrapper cached = nearCache.get(key, field);
+            if (cached != null) {
+                return (byte[]) cached.get();
+            }
+        }
+
+        long stamp = nearCached ? nearCache.stamp(key) : 0;
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            byte[] value = executor.executeCommandInResourcePool(resourcePool, "HGET", key,
+                    (JodisCommandExecutor.JodisPipelineCallback<byte[]>) pipe -> pipe.hget(key, field),
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, byte[]>) client ->
                             client.hget(key, field))
                     .getValue();
+            if (nearCached) {
+                nearCache.put(key, field, value, stamp);
+            }
+            return value;
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
         }
@@ -245,8 +690,14 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public List<byte[]> hMGet(byte[] key, byte[]... fields) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.hmget(key, fields)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "HMGET", key,
+                    (JodisCommandExecutor.JodisPipelineCallback<List<byte[]>>) pipe -> pipe.hmget(key, fields),
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, List<byte[]>>) client ->
                             client.hmget(key, fields))
                     .getValue();
@@ -257,43 +708,72 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public void hMSet(byte[] key, Map<byte[], byte[]> hashes) {
+        if (isPipelined()) {
+            pipeline(new JedisStatusResult(pipeline.hmset(key, hashes)));
+            invalidateNearCache(key);
+            return;
+        }
+
         try {
-            executor.executeCommandInResourcePool(resourcePool,
+            executor.executeCommandInResourcePool(resourcePool, "HMSET", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, String>) client ->
                             client.hmset(key, hashes));
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
     @Override
     public Long hIncrBy(byte[] key, byte[] field, long delta) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.hincrBy(key, field, delta)));
+            invalidateNearCache(key);
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "HINCRBY", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.hincrBy(key, field, delta))
                     .getValue();
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
     @Override
     public Double hIncrBy(byte[] key, byte[] field, double delta) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.hincrByFloat(key, field, delta)));
+            invalidateNearCache(key);
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "HINCRBYFLOAT", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Double>) client ->
                             client.hincrByFloat(key, field, delta))
                     .getValue();
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
     @Override
     public Boolean hExists(byte[] key, byte[] field) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.hexists(key, field)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "HEXISTS", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Boolean>) client ->
                             client.hexists(key, field))
                     .getValue();
@@ -304,20 +784,33 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long hDel(byte[] key, byte[]... fields) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.hdel(key, fields)));
+            invalidateNearCache(key);
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "HDEL", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.hdel(key, fields))
                     .getValue();
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
     @Override
     public Long hLen(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.hlen(key)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "HLEN", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.hlen(key))
                     .getValue();
@@ -328,8 +821,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Set<byte[]> hKeys(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.hkeys(key)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "HKEYS", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<byte[]>>) client ->
                             client.hkeys(key))
                     .getValue();
@@ -340,8 +838,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public List<byte[]> hVals(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.hvals(key)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "HVALS", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, List<byte[]>>) client ->
                             client.hvals(key))
                     .getValue();
@@ -352,8 +855,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Map<byte[], byte[]> hGetAll(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.hgetAll(key)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "HGETALL", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Map<byte[], byte[]>>) client ->
                             client.hgetAll(key))
                     .getValue();
@@ -364,28 +872,42 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Cursor<Map.Entry<byte[], byte[]>> hScan(byte[] key, ScanOptions options) {
+        if (isPipelined()) {
+            throw new UnsupportedOperationException("'HSCAN' cannot be called in pipeline mode.");
+        }
 
-        return new ScanCursor<Map.Entry<byte[], byte[]>>(options) {
+        JodisCommandExecutor pageExecutor = scanPageExecutor(scanPrefetch);
+        return new PrefetchingScanCursor<Map.Entry<byte[], byte[]>>(options, scanPrefetch ? prefetchExecutor : null) {
 
             @Override
-            protected ScanIteration<Map.Entry<byte[], byte[]>> doScan(long cursorId, ScanOptions options) {
+            protected ScanIteration<Map.Entry<byte[], byte[]>> doScanPage(long cursorId, ScanOptions options) {
 
                 ScanParams params = JedisConverters.toScanParams(options);
 
-                redis.clients.jedis.ScanResult<Map.Entry<byte[], byte[]>> result = executor
-                        .executeCommandInResourcePool(resourcePool,
-                                (JodisCommandExecutor.JodisCommandCallback<Jedis, ScanResult<Map.Entry<byte[], byte[]>>>) client ->
-                                        client.hscan(key, JedisConverters.toBytes(cursorId), params))
-                        .getValue();
-                return new ScanIteration<>(Long.parseLong(result.getStringCursor()), result.getResult());
+                try {
+                    redis.clients.jedis.ScanResult<Map.Entry<byte[], byte[]>> result = pageExecutor
+                            .executeCommandInResourcePool(resourcePool, "HSCAN", key,
+                                    (JodisCommandExecutor.JodisCommandCallback<Jedis, ScanResult<Map.Entry<byte[], byte[]>>>) client ->
+                                            client.hscan(key, JedisConverters.toBytes(cursorId), params))
+                            .getValue();
+                    return new ScanIteration<>(Long.parseLong(result.getStringCursor()), result.getResult());
+                } catch (Exception ex) {
+                    throw convertJedisAccessException(ex);
+                }
             }
         }.open();
     }
 
     @Override
     public Boolean exists(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.exists(key)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "EXISTS", key,
+                    (JodisCommandExecutor.JodisPipelineCallback<Boolean>) pipe -> pipe.exists(key),
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Boolean>) client ->
                             client.exists(key))
                     .getValue();
@@ -396,20 +918,33 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long del(byte[]... keys) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.del(keys)));
+            invalidateNearCache(keys);
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "DEL",
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.del(keys))
                     .getValue();
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(keys);
         }
     }
 
     @Override
     public DataType type(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.type(key), JedisConverters.stringToDataType()));
+            return null;
+        }
+
         try {
-            return JedisConverters.toDataType(executor.executeCommandInResourcePool(resourcePool,
+            return JedisConverters.toDataType(executor.executeCommandInResourcePool(resourcePool, "TYPE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, String>) client ->
                             client.type(key))
                     .getValue());
@@ -420,12 +955,89 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Set<byte[]> keys(byte[] pattern) {
-        throw new UnsupportedOperationException("Keys is currently not supported for JodisConnection.");
+        Assert.notNull(pattern, "Pattern must not be null!");
+
+        Set<byte[]> keys = new LinkedHashSet<>();
+        JodisSlotScanCursor cursor = slotScan(pattern, KEYS_SCAN_COUNT);
+        try {
+            cursor.forEachRemaining(keys::add);
+        } finally {
+            cursor.close();
+        }
+        return keys;
     }
 
     @Override
     public Cursor<byte[]> scan(ScanOptions options) {
-        throw new UnsupportedOperationException("Scan is currently not supported for JodisConnection.");
+        ScanOptions scanOptions = options != null ? options : ScanOptions.NONE;
+        byte[] pattern = scanOptions.getPattern() != null ? JedisConverters.toBytes(scanOptions.getPattern()) : null;
+        return slotScan(pattern, scanOptions.getCount() != null ? scanOptions.getCount() : 0);
+    }
+
+    private JedisResourcePool blockingPool() {
+        return blockingResourcePool != null ? blockingResourcePool : resourcePool;
+    }
+
+    private JodisCommandExecutor blockingExecutor() {
+        // a pinned resource belongs to the regular pool
+        return blockingResourcePool != null
+                ? new JodisCommandExecutor(new PooledJodisResourceProvider(), null, executor.getMetrics(),
+                        executor.getHotKeys()) : executor;
+    }
+
+    private JodisCommandExecutor scanPageExecutor(boolean prefetch) {
+        // pages prefetched on other threads must not share a pinned resource
+        return prefetch && prefetchExecutor != null
+                ? new JodisCommandExecutor(new PooledJodisResourceProvider(), null, executor.getMetrics(),
+                        executor.getHotKeys()) : executor;
+    }
+
+    private JodisSlotScanCursor slotScan(byte[] pattern, long count) {
+        if (isPipelined()) {
+            throw new UnsupportedOperationException("Scan cannot be called in pipeline mode.");
+        }
+
+        JodisCommandExecutor pageExecutor = scanPageExecutor(prefetchExecutor != null);
+        return new JodisSlotScanCursor((slot, cursor) -> {
+            ScanIteration<byte[]> page = slotsScan(pageExecutor, slot, cursor, count);
+            return new JodisSlotScanCursor.SlotPage(slot, page.getCursorId(), (List<byte[]>) page.getItems());
+        }, pattern, prefetchExecutor, scanParallelism).open();
+    }
+
+    /**
+     * Scans one page of the keys of a single Codis slot with {@code SLOTSSCAN}.
+     *
+     * @param count page size hint, {@code 0} for the proxy default.
+     * @return the keys of the page, unfiltered, and the cursor of the next page, {@code 0} when the slot is done.
+     */
+    public ScanIteration<byte[]> slotsScan(int slot, long cursorId, long count) {
+        if (isPipelined()) {
+            throw new UnsupportedOperationException("Scan cannot be called in pipeline mode.");
+        }
+        return slotsScan(executor, slot, cursorId, count);
+    }
+
+    private ScanIteration<byte[]> slotsScan(JodisCommandExecutor pageExecutor, int slot, long cursorId, long count) {
+        byte[][] args = count > 0
+                ? new byte[][]{JedisConverters.toBytes(slot), JedisConverters.toBytes(cursorId),
+                JedisConverters.toBytes("COUNT"), JedisConverters.toBytes(count)}
+                : new byte[][]{JedisConverters.toBytes(slot), JedisConverters.toBytes(cursorId)};
+
+        try {
+            List<Object> reply = pageExecutor.executeCommandInResourcePool(resourcePool, "SLOTSSCAN",
+                    (JodisCommandExecutor.JodisCommandCallback<Jedis, List<Object>>) client ->
+                            CodisCommand.SLOTSSCAN.executeForMultiBulkReply(client, args))
+                    .getValue();
+
+            List<?> page = (List<?>) reply.get(1);
+            List<byte[]> keys = new ArrayList<>(page.size());
+            for (Object key : page) {
+                keys.add((byte[]) key);
+            }
+            return new ScanIteration<>(Long.parseLong(JedisConverters.toString((byte[]) reply.get(0))), keys);
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        }
     }
 
     @Override
@@ -445,61 +1057,101 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Boolean expire(byte[] key, long seconds) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.expire(key, Long.valueOf(seconds).intValue()), JedisConverters.longToBoolean()));
+            invalidateNearCache(key);
+            return null;
+        }
+
         try {
-            return JedisConverters.toBoolean(executor.executeCommandInResourcePool(resourcePool,
+            return JedisConverters.toBoolean(executor.executeCommandInResourcePool(resourcePool, "EXPIRE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.expire(key, Long.valueOf(seconds).intValue()))
                     .getValue());
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
     @Override
     public Boolean pExpire(byte[] key, long millis) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.pexpire(key, millis), JedisConverters.longToBoolean()));
+            invalidateNearCache(key);
+            return null;
+        }
+
         try {
-            return JedisConverters.toBoolean(executor.executeCommandInResourcePool(resourcePool,
+            return JedisConverters.toBoolean(executor.executeCommandInResourcePool(resourcePool, "PEXPIRE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.pexpire(key, millis))
                     .getValue());
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
     @Override
     public Boolean expireAt(byte[] key, long unixTime) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.expireAt(key, unixTime), JedisConverters.longToBoolean()));
+            invalidateNearCache(key);
+            return null;
+        }
+
         try {
-            return JedisConverters.toBoolean(executor.executeCommandInResourcePool(resourcePool,
+            return JedisConverters.toBoolean(executor.executeCommandInResourcePool(resourcePool, "EXPIREAT", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.expireAt(key, unixTime))
                     .getValue());
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
     @Override
     public Boolean pExpireAt(byte[] key, long unixTimeInMillis) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.pexpireAt(key, unixTimeInMillis), JedisConverters.longToBoolean()));
+            invalidateNearCache(key);
+            return null;
+        }
+
         try {
-            return JedisConverters.toBoolean(executor.executeCommandInResourcePool(resourcePool,
+            return JedisConverters.toBoolean(executor.executeCommandInResourcePool(resourcePool, "PEXPIREAT", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.pexpireAt(key, unixTimeInMillis))
                     .getValue());
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
     @Override
     public Boolean persist(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.persist(key), JedisConverters.longToBoolean()));
+            invalidateNearCache(key);
+            return null;
+        }
+
         try {
-            return JedisConverters.toBoolean(executor.executeCommandInResourcePool(resourcePool,
+            return JedisConverters.toBoolean(executor.executeCommandInResourcePool(resourcePool, "PERSIST", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.persist(key))
                     .getValue());
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
@@ -510,8 +1162,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long ttl(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.ttl(key)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "TTL", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.ttl(key))
                     .getValue();
@@ -527,8 +1184,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long pTtl(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.pttl(key)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "PTTL", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.pttl(key))
                     .getValue();
@@ -544,8 +1206,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public List<byte[]> sort(byte[] key, SortParameters params) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.sort(key, JedisConverters.toSortingParams(params))));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "SORT", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, List<byte[]>>) client ->
                             client.sort(key, JedisConverters.toSortingParams(params)))
                     .getValue();
@@ -556,29 +1223,143 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long sort(byte[] key, SortParameters params, byte[] storeKey) {
-        List<byte[]> sorted = sort(key, params);
-        if (!CollectionUtils.isEmpty(sorted)) {
-
-            byte[][] arr = new byte[sorted.size()][];
-            switch (type(key)) {
-
-                case SET:
-                    sAdd(storeKey, sorted.toArray(arr));
-                    return 1L;
-                case LIST:
-                    lPush(storeKey, sorted.toArray(arr));
-                    return 1L;
-                default:
-                    throw new IllegalArgumentException("sort and store is only supported for SET and LIST");
+        if (CodisSlotHashUtil.isSameSlotForAllKeys(key, storeKey)) {
+            if (isPipelined()) {
+                pipeline(new JedisResult(pipeline.sort(key, JedisConverters.toSortingParams(params), storeKey)));
+                invalidateNearCache(storeKey);
+                return null;
+            }
+
+            try {
+                return executor.executeCommandInResourcePool(resourcePool, "SORT", key,
+                        (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
+                                client.sort(key, JedisConverters.toSortingParams(params), storeKey))
+                        .getValue();
+            } catch (Exception ex) {
+                throw convertJedisAccessException(ex);
+            } finally {
+                invalidateNearCache(storeKey);
+            }
+        }
+
+        if (isPipelined()) {
+            throw new InvalidDataAccessApiUsageException(
+                    "SORT ... STORE can only be pipelined when source and destination keys map to the same slot");
+        }
+
+        try {
+            return sortAndStoreInChunks(key, params, storeKey);
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(storeKey);
+        }
+    }
+
+    /**
+     * SORT ... STORE across slots: sorts once into a temporary list tagged to the source's slot, then moves it to the
+     * destination with LRANGE and RPUSH, pushing a page in the same pipeline that fetches the next one. The
+     * destination is replaced as with STORE, but not atomically. The temporary list is deleted afterwards and expires
+     * in case that fails.
+     */
+    @SuppressWarnings("unchecked")
+    private long sortAndStoreInChunks(byte[] key, SortParameters params, byte[] storeKey) {
+        byte[] tempKey = sortTempKey(key);
+        SortingParams sortingParams = params != null ? JedisConverters.toSortingParams(params) : new SortingParams();
+
+        List<Object> sorted = executor.executePipelineInResourcePool(resourcePool, "SORT",
+                (JodisCommandExecutor.JodisCommandCallback<Pipeline, List<Response<Object>>>) client -> {
+                    List<Response<Object>> responses = new ArrayList<>(2);
+                    responses.add((Response) client.sort(key, sortingParams, tempKey));
+                    responses.add((Response) client.expire(tempKey, SORT_STORE_TEMP_TTL_SECONDS));
+                    return responses;
+                })
+                .getValue();
+
+        try {
+            long total = (Long) sorted.get(0);
+            long offset = 0;
+            long stored = 0;
+            List<byte[]> page = null;
+            while (true) {
+                List<byte[]> toPush = page;
+                long start = offset;
+                boolean more = offset < total;
+
+                List<Object> replies = executor.executePipelineInResourcePool(resourcePool, "SORT",
+                        (JodisCommandExecutor.JodisCommandCallback<Pipeline, List<Response<Object>>>) client -> {
+                            List<Response<Object>> responses = new ArrayList<>(2);
+                            if (toPush == null) {
+                                responses.add((Response) client.del(storeKey));
+                            } else if (!toPush.isEmpty()) {
+                                responses.add((Response) client.rpush(storeKey,
+                                        toPush.toArray(new byte[toPush.size()][])));
+                            }
+                            if (more) {
+                                responses.add((Response) client.lrange(tempKey, start,
+                                        start + SORT_STORE_PAGE_SIZE - 1));
+                            }
+                            return responses;
+                        })
+                        .getValue();
+
+                if (toPush != null) {
+                    stored += toPush.size();
+                }
+                if (!more) {
+                    return stored;
+                }
+
+                page = (List<byte[]>) replies.get(replies.size() - 1);
+                offset += page.size();
+                if (page.isEmpty()) {
+                    // the temporary list expired or was removed underneath
+                    total = offset;
+                }
+            }
+        } finally {
+            try {
+                executor.executeCommandInResourcePool(resourcePool, "DEL", tempKey,
+                        (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client -> client.del(tempKey));
+            } catch (RuntimeException ex) {
+                log.warn("Cannot delete temporary sort key, it expires in {} s", SORT_STORE_TEMP_TTL_SECONDS, ex);
+            }
+        }
+    }
+
+    /**
+     * @return a fresh key in the slot of {@code key}, tagged with the part of it Codis hashes.
+     */
+    private static byte[] sortTempKey(byte[] key) {
+        String suffix = ":sort:" + UUID.randomUUID();
+        byte[] hashed = CodisSlotHashUtil.getHashedPart(key);
+        boolean taggable = true;
+        for (byte b : hashed) {
+            taggable &= b != '}';
+        }
+        if (taggable) {
+            return ByteUtils.concatAll(JedisConverters.toBytes("{"), hashed, JedisConverters.toBytes("}" + suffix));
+        }
+
+        // a '}' cannot be part of a tag, look for an untagged key of the same slot instead
+        int slot = CodisSlotHashUtil.calculateSlot(key);
+        for (int i = 0; ; i++) {
+            byte[] candidate = JedisConverters.toBytes("sort" + suffix + ":" + i);
+            if (CodisSlotHashUtil.calculateSlot(candidate) == slot) {
+                return candidate;
             }
         }
-        return 0L;
     }
 
     @Override
     public byte[] dump(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.dump(key)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "DUMP", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, byte[]>) client ->
                             client.dump(key))
                     .getValue();
@@ -589,13 +1370,39 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public void restore(byte[] key, long ttlInMillis, byte[] serializedValue) {
-        throw new UnsupportedOperationException("Restore is currently not supported for JodisConnection.");
+        Assert.notNull(key, "Key must not be null!");
+        Assert.notNull(serializedValue, "Serialized value must not be null!");
+
+        if (ttlInMillis > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("TtlInMillis must be less than Integer.MAX_VALUE for restore in Jedis.");
+        }
+
+        if (isPipelined()) {
+            pipeline(new JedisStatusResult(pipeline.restore(key, (int) ttlInMillis, serializedValue)));
+            invalidateNearCache(key);
+            return;
+        }
+
+        try {
+            executor.executeCommandInResourcePool(resourcePool, "RESTORE", key,
+                    (JodisCommandExecutor.JodisCommandCallback<Jedis, String>) client ->
+                            client.restore(key, (int) ttlInMillis, serializedValue));
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
+        }
     }
 
     @Override
     public Long rPush(byte[] key, byte[]... values) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.rpush(key, values)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "RPUSH", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.rpush(key, values))
                     .getValue();
@@ -606,8 +1413,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long lPush(byte[] key, byte[]... values) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.lpush(key, values)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "LPUSH", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.lpush(key, values))
                     .getValue();
@@ -618,8 +1430,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long rPushX(byte[] key, byte[] value) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.rpushx(key, value)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "RPUSHX", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.rpushx(key, value))
                     .getValue();
@@ -630,8 +1447,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long lPushX(byte[] key, byte[] value) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.lpushx(key, value)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "LPUSHX", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.lpushx(key, value))
                     .getValue();
@@ -642,8 +1464,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long lLen(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.llen(key)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "LLEN", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.llen(key))
                     .getValue();
@@ -654,8 +1481,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public List<byte[]> lRange(byte[] key, long start, long end) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.lrange(key, start, end)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "LRANGE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, List<byte[]>>) client ->
                             client.lrange(key, start, end))
                     .getValue();
@@ -666,8 +1498,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public void lTrim(byte[] key, long start, long end) {
+        if (isPipelined()) {
+            pipeline(new JedisStatusResult(pipeline.ltrim(key, start, end)));
+            return;
+        }
+
         try {
-            executor.executeCommandInResourcePool(resourcePool,
+            executor.executeCommandInResourcePool(resourcePool, "LTRIM", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, String>) client ->
                             client.ltrim(key, start, end));
         } catch (Exception ex) {
@@ -677,8 +1514,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public byte[] lIndex(byte[] key, long index) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.lindex(key, index)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "LINDEX", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, byte[]>) client ->
                             client.lindex(key, index))
                     .getValue();
@@ -689,8 +1531,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long lInsert(byte[] key, Position where, byte[] pivot, byte[] value) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.linsert(key, JedisConverters.toListPosition(where), pivot, value)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "LINSERT", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.linsert(key, JedisConverters.toListPosition(where), pivot, value))
                     .getValue();
@@ -701,8 +1548,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public void lSet(byte[] key, long index, byte[] value) {
+        if (isPipelined()) {
+            pipeline(new JedisStatusResult(pipeline.lset(key, index, value)));
+            return;
+        }
+
         try {
-            executor.executeCommandInResourcePool(resourcePool,
+            executor.executeCommandInResourcePool(resourcePool, "LSET", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, String>) client ->
                             client.lset(key, index, value));
         } catch (Exception ex) {
@@ -712,8 +1564,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long lRem(byte[] key, long count, byte[] value) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.lrem(key, count, value)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "LREM", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.lrem(key, count, value))
                     .getValue();
@@ -724,8 +1581,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public byte[] lPop(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.lpop(key)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "LPOP", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, byte[]>) client ->
                             client.lpop(key))
                     .getValue();
@@ -736,8 +1598,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public byte[] rPop(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.rpop(key)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "RPOP", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, byte[]>) client ->
                             client.rpop(key))
                     .getValue();
@@ -749,7 +1616,7 @@ public class JodisConnection implements RedisClusterConnection {
     @Override
     public List<byte[]> bLPop(int timeout, byte[]... keys) {
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return blockingExecutor().executeCommandInResourcePool(blockingPool(), "BLPOP",
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, List<byte[]>>) client ->
                             client.blpop(timeout, keys))
                     .getValue();
@@ -761,7 +1628,7 @@ public class JodisConnection implements RedisClusterConnection {
     @Override
     public List<byte[]> bRPop(int timeout, byte[]... keys) {
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return blockingExecutor().executeCommandInResourcePool(blockingPool(), "BRPOP",
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, List<byte[]>>) client ->
                             client.brpop(timeout, keys))
                     .getValue();
@@ -770,14 +1637,41 @@ public class JodisConnection implements RedisClusterConnection {
         }
     }
 
-    @Override
-    public byte[] rPopLPush(byte[] srcKey, byte[] dstKey) {
-        throw new UnsupportedOperationException("RPopLPush is currently not supported for JodisConnection.");
-    }
-
+    @Override
+    public byte[] rPopLPush(byte[] srcKey, byte[] dstKey) {
+        if (!CodisSlotHashUtil.isSameSlotForAllKeys(srcKey, dstKey)) {
+            throw new InvalidDataAccessApiUsageException("RPOPLPUSH can only be executed when all keys map to the same slot");
+        }
+
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.rpoplpush(srcKey, dstKey)));
+            return null;
+        }
+
+        try {
+            return executor.executeCommandInResourcePool(resourcePool, "RPOPLPUSH",
+                    (JodisCommandExecutor.JodisCommandCallback<Jedis, byte[]>) client ->
+                            client.rpoplpush(srcKey, dstKey))
+                    .getValue();
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        }
+    }
+
     @Override
     public byte[] bRPopLPush(int timeout, byte[] srcKey, byte[] dstKey) {
-        throw new UnsupportedOperationException("BRPopLPush is currently not supported for JodisConnection.");
+        if (!CodisSlotHashUtil.isSameSlotForAllKeys(srcKey, dstKey)) {
+            throw new InvalidDataAccessApiUsageException("BRPOPLPUSH can only be executed when all keys map to the same slot");
+        }
+
+        try {
+            return blockingExecutor().executeCommandInResourcePool(blockingPool(), "BRPOPLPUSH",
+                    (JodisCommandExecutor.JodisCommandCallback<Jedis, byte[]>) client ->
+                            client.brpoplpush(srcKey, dstKey, timeout))
+                    .getValue();
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        }
     }
 
     @Override
@@ -792,17 +1686,44 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long publish(byte[] channel, byte[] message) {
-        throw new UnsupportedOperationException("Publish is currently not supported for JodisConnection.");
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.publish(channel, message)));
+            return null;
+        }
+
+        try {
+            return executor.executeCommandInResourcePool(resourcePool, "PUBLISH",
+                    (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
+                            client.publish(channel, message))
+                    .getValue();
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        }
     }
 
     @Override
     public void subscribe(MessageListener listener, byte[]... channels) {
-        throw new UnsupportedOperationException("Subscribe is currently not supported for JodisConnection.");
+        checkSubscription();
+        subscription = subscriberManager.subscribe(listener, channels, null);
     }
 
     @Override
     public void pSubscribe(MessageListener listener, byte[]... patterns) {
-        throw new UnsupportedOperationException("PSubscribe is currently not supported for JodisConnection.");
+        checkSubscription();
+        subscription = subscriberManager.subscribe(listener, null, patterns);
+    }
+
+    private void checkSubscription() {
+        if (subscriberManager == null) {
+            throw new UnsupportedOperationException("Subscribe is currently not supported for JodisConnection.");
+        }
+        if (isSubscribed()) {
+            throw new RedisSubscribedConnectionException(
+                    "Connection already subscribed; use the connection Subscription to cancel or add new channels");
+        }
+        if (isPipelined()) {
+            throw new UnsupportedOperationException("Cannot subscribe in pipeline mode");
+        }
     }
 
     @Override
@@ -815,29 +1736,102 @@ public class JodisConnection implements RedisClusterConnection {
         throw new UnsupportedOperationException("ScriptKill is currently not supported for JodisConnection.");
     }
 
+    /**
+     * The Codis proxy does not forward {@code SCRIPT}, so the script is only registered client-side and
+     * sent with {@code EVAL} the first time it runs in a slot.
+     */
     @Override
     public String scriptLoad(byte[] script) {
-        throw new UnsupportedOperationException("ScriptLoad is currently not supported for JodisConnection.");
+        Assert.notNull(script, "Script must not be null!");
+        return scriptCache.register(script);
     }
 
+    /**
+     * Reports whether the scripts are known to the client-side cache, which is what {@link #evalSha} needs
+     * to run them.
+     */
     @Override
     public List<Boolean> scriptExists(String... scriptShas) {
-        throw new UnsupportedOperationException("ScriptExists is currently not supported for JodisConnection.");
+        List<Boolean> exists = new ArrayList<>(scriptShas.length);
+        for (String scriptSha : scriptShas) {
+            exists.add(scriptCache.getScript(scriptSha) != null);
+        }
+        return exists;
     }
 
     @Override
     public <T> T eval(byte[] script, ReturnType returnType, int numKeys, byte[]... keysAndArgs) {
-        throw new UnsupportedOperationException("Eval is currently not supported for JodisConnection.");
+        Assert.notNull(script, "Script must not be null!");
+        return evalSha(scriptCache.register(script), script, returnType, numKeys, keysAndArgs);
     }
 
     @Override
     public <T> T evalSha(String scriptSha, ReturnType returnType, int numKeys, byte[]... keysAndArgs) {
-        throw new UnsupportedOperationException("EvalSha is currently not supported for JodisConnection.");
+        Assert.notNull(scriptSha, "Script SHA must not be null!");
+        return evalSha(scriptSha, scriptCache.getScript(scriptSha), returnType, numKeys, keysAndArgs);
     }
 
     @Override
     public <T> T evalSha(byte[] scriptSha, ReturnType returnType, int numKeys, byte[]... keysAndArgs) {
-        throw new UnsupportedOperationException("EvalSha is currently not supported for JodisConnection.");
+        Assert.notNull(scriptSha, "Script SHA must not be null!");
+        return evalSha(JedisConverters.toString(scriptSha), returnType, numKeys, keysAndArgs);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T evalSha(String scriptSha, byte[] script, ReturnType returnType, int numKeys, byte[]... keysAndArgs) {
+        int slot = scriptSlot(numKeys, keysAndArgs);
+        JedisScriptReturnConverter converter = new JedisScriptReturnConverter(returnType);
+
+        if (isPipelined()) {
+            if (script != null) {
+                pipeline(new JedisResult(pipeline.eval(script, numKeys, keysAndArgs), converter));
+            } else {
+                pipeline(new JedisResult(pipeline.evalsha(JedisConverters.toBytes(scriptSha), numKeys, keysAndArgs),
+                        converter));
+            }
+            invalidateNearCache(Arrays.copyOf(keysAndArgs, numKeys));
+            return null;
+        }
+
+        try {
+            Object result = executor.executeCommandInResourcePool(resourcePool, "EVAL",
+                    (JodisCommandExecutor.JodisCommandCallback<Jedis, Object>) client -> {
+                        if (script == null || slot < 0 || scriptCache.isLoaded(scriptSha, slot)) {
+                            try {
+                                return client.evalsha(JedisConverters.toBytes(scriptSha), numKeys, keysAndArgs);
+                            } catch (JedisNoScriptException ex) {
+                                if (script == null) {
+                                    throw ex;
+                                }
+                            }
+                        }
+
+                        Object reply = client.eval(script, numKeys, keysAndArgs);
+                        if (slot >= 0) {
+                            scriptCache.markLoaded(scriptSha, slot);
+                        }
+                        return reply;
+                    })
+                    .getValue();
+            return (T) converter.convert(result);
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        } finally {
+            // scripts may write to any of their keys
+            invalidateNearCache(Arrays.copyOf(keysAndArgs, numKeys));
+        }
+    }
+
+    private static int scriptSlot(int numKeys, byte[]... keysAndArgs) {
+        if (numKeys <= 0) {
+            return -1;
+        }
+
+        byte[][] keys = Arrays.copyOf(keysAndArgs, numKeys);
+        if (!CodisSlotHashUtil.isSameSlotForAllKeys(keys)) {
+            throw new InvalidDataAccessApiUsageException("EVAL can only be executed when all keys map to the same slot");
+        }
+        return CodisSlotHashUtil.calculateSlot(keys[0]);
     }
 
     @Override
@@ -883,7 +1877,7 @@ public class JodisConnection implements RedisClusterConnection {
     @Override
     public Properties info() {
         try {
-            return JedisConverters.toProperties(executor.executeCommandInResourcePool(resourcePool,
+            return JedisConverters.toProperties(executor.executeCommandInResourcePool(resourcePool, "INFO",
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, String>) BinaryJedis::info)
                     .getValue());
         } catch (Exception ex) {
@@ -894,7 +1888,7 @@ public class JodisConnection implements RedisClusterConnection {
     @Override
     public Properties info(String section) {
         try {
-            return JedisConverters.toProperties(executor.executeCommandInResourcePool(resourcePool,
+            return JedisConverters.toProperties(executor.executeCommandInResourcePool(resourcePool, "INFO",
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, String>) client ->
                             client.info(section))
                     .getValue());
@@ -916,7 +1910,7 @@ public class JodisConnection implements RedisClusterConnection {
     @Override
     public List<String> getConfig(String pattern) {
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "CONFIG",
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, List<String>>) client ->
                             client.configGet(pattern))
                     .getValue();
@@ -928,7 +1922,7 @@ public class JodisConnection implements RedisClusterConnection {
     @Override
     public void setConfig(String param, String value) {
         try {
-            executor.executeCommandInResourcePool(resourcePool,
+            executor.executeCommandInResourcePool(resourcePool, "CONFIG",
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, String>) client ->
                             client.configSet(param, value));
         } catch (Exception ex) {
@@ -939,7 +1933,7 @@ public class JodisConnection implements RedisClusterConnection {
     @Override
     public void resetConfigStats() {
         try {
-            executor.executeCommandInResourcePool(resourcePool,
+            executor.executeCommandInResourcePool(resourcePool, "CONFIG",
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, String>) BinaryJedis::configResetStat);
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
@@ -956,7 +1950,7 @@ public class JodisConnection implements RedisClusterConnection {
         final String hostAndPort = String.format("%s:%s", host, port);
 
         try {
-            executor.executeCommandInResourcePool(resourcePool,
+            executor.executeCommandInResourcePool(resourcePool, "CLIENT",
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, String>) client ->
                             client.clientKill(hostAndPort));
         } catch (Exception ex) {
@@ -977,7 +1971,7 @@ public class JodisConnection implements RedisClusterConnection {
     @Override
     public List<RedisClientInfo> getClientList() {
         try {
-            String infos = executor.executeCommandInResourcePool(resourcePool,
+            String infos = executor.executeCommandInResourcePool(resourcePool, "CLIENT",
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, String>) BinaryJedis::clientList)
                     .getValue();
             return new ArrayList<>(JedisConverters.toListOfRedisClientInformation(infos));
@@ -1010,8 +2004,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long sAdd(byte[] key, byte[]... values) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.sadd(key, values)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "SADD", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.sadd(key, values))
                     .getValue();
@@ -1022,8 +2021,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long sRem(byte[] key, byte[]... values) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.srem(key, values)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "SREM", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.srem(key, values))
                     .getValue();
@@ -1034,8 +2038,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public byte[] sPop(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.spop(key)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "SPOP", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, byte[]>) client ->
                             client.spop(key))
                     .getValue();
@@ -1051,8 +2060,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long sCard(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.scard(key)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "SCARD", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.scard(key))
                     .getValue();
@@ -1063,8 +2077,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Boolean sIsMember(byte[] key, byte[] value) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.sismember(key, value)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "SISMEMBER", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Boolean>) client ->
                             client.sismember(key, value))
                     .getValue();
@@ -1105,8 +2124,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Set<byte[]> sMembers(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.smembers(key)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "SMEMBERS", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<byte[]>>) client ->
                             client.smembers(key))
                     .getValue();
@@ -1117,8 +2141,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public byte[] sRandMember(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.srandmember(key)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "SRANDMEMBER", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, byte[]>) client ->
                             client.srandmember(key))
                     .getValue();
@@ -1129,8 +2158,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public List<byte[]> sRandMember(byte[] key, long count) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.srandmember(key, Long.valueOf(count).intValue())));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "SRANDMEMBER", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, List<byte[]>>) client ->
                             client.srandmember(key, Long.valueOf(count).intValue()))
                     .getValue();
@@ -1141,16 +2175,58 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Cursor<byte[]> sScan(byte[] key, ScanOptions options) {
-        throw new UnsupportedOperationException("SScan is currently not supported for JodisConnection.");
+        if (isPipelined()) {
+            throw new UnsupportedOperationException("'SSCAN' cannot be called in pipeline mode.");
+        }
+
+        JodisCommandExecutor pageExecutor = scanPageExecutor(scanPrefetch);
+        return new PrefetchingScanCursor<byte[]>(options, scanPrefetch ? prefetchExecutor : null) {
+
+            @Override
+            protected ScanIteration<byte[]> doScanPage(long cursorId, ScanOptions options) {
+
+                ScanParams params = JedisConverters.toScanParams(options);
+
+                try {
+                    redis.clients.jedis.ScanResult<byte[]> result = pageExecutor
+                            .executeCommandInResourcePool(resourcePool, "SSCAN", key,
+                                    (JodisCommandExecutor.JodisCommandCallback<Jedis, ScanResult<byte[]>>) client ->
+                                            client.sscan(key, JedisConverters.toBytes(cursorId), params))
+                            .getValue();
+                    return new ScanIteration<>(Long.parseLong(result.getStringCursor()), result.getResult());
+                } catch (Exception ex) {
+                    throw convertJedisAccessException(ex);
+                }
+            }
+        }.open();
     }
 
     @Override
     public byte[] get(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.get(key)));
+            return null;
+        }
+
+        boolean nearCached = nearCache != null && nearCache.isCacheable(key);
+        if (nearCached) {
+            Cache.ValueWrapper cached = nearCache.get(key);
+            if (cached != null) {
+                return (byte[]) cached.get();
+            }
+        }
+
+        long stamp = nearCached ? nearCache.stamp(key) : 0;
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            byte[] value = executor.executeCommandInResourcePool(resourcePool, "GET", key,
+                    (JodisCommandExecutor.JodisPipelineCallback<byte[]>) pipe -> pipe.get(key),
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, byte[]>) client ->
                             client.get(key))
                     .getValue();
+            if (nearCached) {
+                nearCache.put(key, value, stamp);
+            }
+            return value;
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
         }
@@ -1158,23 +2234,69 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public byte[] getSet(byte[] key, byte[] value) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.getSet(key, value)));
+            invalidateNearCache(key);
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "GETSET", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, byte[]>) client ->
                             client.getSet(key, value))
                     .getValue();
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
     @Override
     public List<byte[]> mGet(byte[]... keys) {
-        try {
-            return executor.executeCommandInResourcePool(resourcePool,
-                    (JodisCommandExecutor.JodisCommandCallback<Jedis, List<byte[]>>) client ->
-                            client.mget(keys))
-                    .getValue();
+        Assert.notNull(keys, "Keys must not be null!");
+
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.mget(keys)));
+            return null;
+        }
+
+        if (CodisSlotHashUtil.isSameSlotForAllKeys(keys)) {
+            try {
+                return executor.executeCommandInResourcePool(resourcePool, "MGET",
+                        (JodisCommandExecutor.JodisCommandCallback<Jedis, List<byte[]>>) client ->
+                                client.mget(keys))
+                        .getValue();
+            } catch (Exception ex) {
+                throw convertJedisAccessException(ex);
+            }
+        }
+
+        Map<Integer, List<Integer>> positionsBySlot = groupPositionsBySlot(keys);
+        try {
+            List<List<byte[]>> replies = executor.executePipelineInResourcePool(resourcePool, "MGET",
+                    (JodisCommandExecutor.JodisCommandCallback<Pipeline, List<Response<List<byte[]>>>>) client -> {
+                        List<Response<List<byte[]>>> responses = new ArrayList<>(positionsBySlot.size());
+                        for (List<Integer> positions : positionsBySlot.values()) {
+                            byte[][] slotKeys = new byte[positions.size()][];
+                            for (int i = 0; i < slotKeys.length; i++) {
+                                slotKeys[i] = keys[positions.get(i)];
+                            }
+                            responses.add(client.mget(slotKeys));
+                        }
+                        return responses;
+                    })
+                    .getValue();
+
+            byte[][] values = new byte[keys.length][];
+            Iterator<List<byte[]>> replyIterator = replies.iterator();
+            for (List<Integer> positions : positionsBySlot.values()) {
+                List<byte[]> reply = replyIterator.next();
+                for (int i = 0; i < positions.size(); i++) {
+                    values[positions.get(i)] = reply.get(i);
+                }
+            }
+            return Arrays.asList(values);
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
         }
@@ -1182,12 +2304,21 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public void set(byte[] key, byte[] value) {
+        if (isPipelined()) {
+            pipeline(new JedisStatusResult(pipeline.set(key, value)));
+            invalidateNearCache(key);
+            return;
+        }
+
         try {
-            executor.executeCommandInResourcePool(resourcePool,
+            executor.executeCommandInResourcePool(resourcePool, "SET", key,
+                    (JodisCommandExecutor.JodisPipelineCallback<String>) pipe -> pipe.set(key, value),
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, String>) client ->
                             client.set(key, value));
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
@@ -1220,12 +2351,25 @@ public class JodisConnection implements RedisClusterConnection {
                 byte[] nxxx = JedisConverters.toSetCommandNxXxArgument(option);
                 byte[] expx = JedisConverters.toSetCommandExPxArgument(expiration);
 
+                if (isPipelined()) {
+                    if (expiration.getExpirationTime() > Integer.MAX_VALUE) {
+                        throw new IllegalArgumentException("Expiration time cannot exceed Integer.MAX_VALUE in pipeline mode!");
+                    }
+
+                    pipeline(new JedisStatusResult(pipeline.set(key, value, nxxx, expx,
+                            Long.valueOf(expiration.getExpirationTime()).intValue())));
+                    invalidateNearCache(key);
+                    return;
+                }
+
                 try {
-                    executor.executeCommandInResourcePool(resourcePool,
+                    executor.executeCommandInResourcePool(resourcePool, "SET", key,
                             (JodisCommandExecutor.JodisCommandCallback<Jedis, String>) client ->
                                     client.set(key, value, nxxx, expx, expiration.getExpirationTime()));
                 } catch (Exception ex) {
                     throw convertJedisAccessException(ex);
+                } finally {
+                    invalidateNearCache(key);
                 }
             }
         }
@@ -1233,13 +2377,21 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Boolean setNX(byte[] key, byte[] value) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.setnx(key, value), JedisConverters.longToBoolean()));
+            invalidateNearCache(key);
+            return null;
+        }
+
         try {
-            return JedisConverters.toBoolean(executor.executeCommandInResourcePool(resourcePool,
+            return JedisConverters.toBoolean(executor.executeCommandInResourcePool(resourcePool, "SETNX", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.setnx(key, value))
                     .getValue());
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
@@ -1249,12 +2401,20 @@ public class JodisConnection implements RedisClusterConnection {
             throw new IllegalArgumentException("Seconds have cannot exceed Integer.MAX_VALUE!");
         }
 
+        if (isPipelined()) {
+            pipeline(new JedisStatusResult(pipeline.setex(key, Long.valueOf(seconds).intValue(), value)));
+            invalidateNearCache(key);
+            return;
+        }
+
         try {
-            executor.executeCommandInResourcePool(resourcePool,
+            executor.executeCommandInResourcePool(resourcePool, "SETEX", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, String>) client ->
                             client.setex(key, Long.valueOf(seconds).intValue(), value));
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
 
     }
@@ -1265,12 +2425,20 @@ public class JodisConnection implements RedisClusterConnection {
             throw new IllegalArgumentException("Milliseconds have cannot exceed Integer.MAX_VALUE!");
         }
 
+        if (isPipelined()) {
+            pipeline(new JedisStatusResult(pipeline.psetex(key, milliseconds, value)));
+            invalidateNearCache(key);
+            return;
+        }
+
         try {
-            executor.executeCommandInResourcePool(resourcePool,
+            executor.executeCommandInResourcePool(resourcePool, "PSETEX", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, String>) client ->
                             client.psetex(key, milliseconds, value));
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
@@ -1278,19 +2446,48 @@ public class JodisConnection implements RedisClusterConnection {
     public void mSet(Map<byte[], byte[]> tuples) {
         Assert.notNull(tuples, "Tuples must not be null!");
 
-        if (ClusterSlotHashUtil.isSameSlotForAllKeys(tuples.keySet().toArray(new byte[tuples.keySet().size()][]))) {
+        byte[][] keys = tuples.keySet().toArray(new byte[tuples.keySet().size()][]);
+        if (CodisSlotHashUtil.isSameSlotForAllKeys(keys)) {
+            if (isPipelined()) {
+                pipeline(new JedisStatusResult(pipeline.mset(JedisConverters.toByteArrays(tuples))));
+                invalidateNearCache(keys);
+                return;
+            }
+
             try {
-                executor.executeCommandInResourcePool(resourcePool,
+                executor.executeCommandInResourcePool(resourcePool, "MSET",
                         (JodisCommandExecutor.JodisCommandCallback<Jedis, String>) client ->
                                 client.mset(JedisConverters.toByteArrays(tuples)));
                 return;
             } catch (Exception ex) {
                 throw convertJedisAccessException(ex);
+            } finally {
+                invalidateNearCache(keys);
             }
         }
 
-        for (Map.Entry<byte[], byte[]> entry : tuples.entrySet()) {
-            set(entry.getKey(), entry.getValue());
+        Map<Integer, Map<byte[], byte[]>> tuplesBySlot = groupTuplesBySlot(tuples);
+        if (isPipelined()) {
+            for (Map<byte[], byte[]> slotTuples : tuplesBySlot.values()) {
+                pipeline(new JedisStatusResult(pipeline.mset(JedisConverters.toByteArrays(slotTuples))));
+            }
+            invalidateNearCache(keys);
+            return;
+        }
+
+        try {
+            executor.executePipelineInResourcePool(resourcePool, "MSET",
+                    (JodisCommandExecutor.JodisCommandCallback<Pipeline, List<Response<String>>>) client -> {
+                        List<Response<String>> responses = new ArrayList<>(tuplesBySlot.size());
+                        for (Map<byte[], byte[]> slotTuples : tuplesBySlot.values()) {
+                            responses.add(client.mset(JedisConverters.toByteArrays(slotTuples)));
+                        }
+                        return responses;
+                    });
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(keys);
         }
     }
 
@@ -1298,102 +2495,204 @@ public class JodisConnection implements RedisClusterConnection {
     public Boolean mSetNX(Map<byte[], byte[]> tuples) {
         Assert.notNull(tuples, "Tuple must not be null!");
 
-        if (ClusterSlotHashUtil.isSameSlotForAllKeys(tuples.keySet().toArray(new byte[tuples.keySet().size()][]))) {
+        byte[][] keys = tuples.keySet().toArray(new byte[tuples.keySet().size()][]);
+        if (CodisSlotHashUtil.isSameSlotForAllKeys(keys)) {
+            if (isPipelined()) {
+                pipeline(new JedisResult(pipeline.msetnx(JedisConverters.toByteArrays(tuples)),
+                        JedisConverters.longToBoolean()));
+                invalidateNearCache(keys);
+                return null;
+            }
+
             try {
-                return JedisConverters.toBoolean(executor.executeCommandInResourcePool(resourcePool,
+                return JedisConverters.toBoolean(executor.executeCommandInResourcePool(resourcePool, "MSETNX",
                         (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                                 client.msetnx(JedisConverters.toByteArrays(tuples)))
                         .getValue());
             } catch (Exception ex) {
                 throw convertJedisAccessException(ex);
+            } finally {
+                invalidateNearCache(keys);
             }
         }
 
-        boolean result = true;
-        for (Map.Entry<byte[], byte[]> entry : tuples.entrySet()) {
-            if (!setNX(entry.getKey(), entry.getValue()) && result) {
-                result = false;
+        if (isPipelined()) {
+            throw new InvalidDataAccessApiUsageException("MSETNX can only be pipelined when all keys map to the same slot");
+        }
+
+        // MSETNX is atomic per slot only, so the whole call succeeded if every slot group did
+        Map<Integer, Map<byte[], byte[]>> tuplesBySlot = groupTuplesBySlot(tuples);
+        try {
+            List<Long> replies = executor.executePipelineInResourcePool(resourcePool, "MSETNX",
+                    (JodisCommandExecutor.JodisCommandCallback<Pipeline, List<Response<Long>>>) client -> {
+                        List<Response<Long>> responses = new ArrayList<>(tuplesBySlot.size());
+                        for (Map<byte[], byte[]> slotTuples : tuplesBySlot.values()) {
+                            responses.add(client.msetnx(JedisConverters.toByteArrays(slotTuples)));
+                        }
+                        return responses;
+                    })
+                    .getValue();
+
+            boolean result = true;
+            for (Long reply : replies) {
+                if (!JedisConverters.toBoolean(reply)) {
+                    result = false;
+                }
             }
+            return result;
+        } catch (Exception ex) {
+            throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(keys);
+        }
+    }
+
+    private static Map<Integer, List<Integer>> groupPositionsBySlot(byte[][] keys) {
+        Map<Integer, List<Integer>> positionsBySlot = new LinkedHashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            positionsBySlot.computeIfAbsent(CodisSlotHashUtil.calculateSlot(keys[i]), slot -> new ArrayList<>()).add(i);
+        }
+        return positionsBySlot;
+    }
+
+    private static Map<Integer, Map<byte[], byte[]>> groupTuplesBySlot(Map<byte[], byte[]> tuples) {
+        Map<Integer, Map<byte[], byte[]>> tuplesBySlot = new LinkedHashMap<>();
+        for (Map.Entry<byte[], byte[]> entry : tuples.entrySet()) {
+            tuplesBySlot.computeIfAbsent(CodisSlotHashUtil.calculateSlot(entry.getKey()), slot -> new LinkedHashMap<>())
+                    .put(entry.getKey(), entry.getValue());
         }
-        return result;
+        return tuplesBySlot;
     }
 
     @Override
     public Long incr(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.incr(key)));
+            invalidateNearCache(key);
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "INCR", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.incr(key))
                     .getValue();
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
     @Override
     public Long incrBy(byte[] key, long value) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.incrBy(key, value)));
+            invalidateNearCache(key);
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "INCRBY", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.incrBy(key, value))
                     .getValue();
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
     @Override
     public Double incrBy(byte[] key, double value) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.incrByFloat(key, value)));
+            invalidateNearCache(key);
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "INCRBYFLOAT", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Double>) client ->
                             client.incrByFloat(key, value))
                     .getValue();
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
     @Override
     public Long decr(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.decr(key)));
+            invalidateNearCache(key);
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "DECR", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.decr(key))
                     .getValue();
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
     @Override
     public Long decrBy(byte[] key, long value) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.decrBy(key, value)));
+            invalidateNearCache(key);
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "DECRBY", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.decrBy(key, value))
                     .getValue();
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
     @Override
     public Long append(byte[] key, byte[] value) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.append(key, value)));
+            invalidateNearCache(key);
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "APPEND", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.append(key, value))
                     .getValue();
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
     @Override
     public byte[] getRange(byte[] key, long begin, long end) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.getrange(key, begin, end)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "GETRANGE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, byte[]>) client ->
                             client.getrange(key, begin, end))
                     .getValue();
@@ -1404,19 +2703,32 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public void setRange(byte[] key, byte[] value, long offset) {
+        if (isPipelined()) {
+            pipeline(new JedisStatusResult(pipeline.setrange(key, offset, value)));
+            invalidateNearCache(key);
+            return;
+        }
+
         try {
-            executor.executeCommandInResourcePool(resourcePool,
+            executor.executeCommandInResourcePool(resourcePool, "SETRANGE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.setrange(key, offset, value));
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
     @Override
     public Boolean getBit(byte[] key, long offset) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.getbit(key, offset)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "GETBIT", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Boolean>) client ->
                             client.getbit(key, offset))
                     .getValue();
@@ -1427,20 +2739,33 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Boolean setBit(byte[] key, long offset, boolean value) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.setbit(key, offset, JedisConverters.toBit(value))));
+            invalidateNearCache(key);
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "SETBIT", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Boolean>) client ->
                             client.setbit(key, offset, value))
                     .getValue();
         } catch (Exception ex) {
             throw convertJedisAccessException(ex);
+        } finally {
+            invalidateNearCache(key);
         }
     }
 
     @Override
     public Long bitCount(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.bitcount(key)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "BITCOUNT", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.bitcount(key))
                     .getValue();
@@ -1451,8 +2776,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long bitCount(byte[] key, long begin, long end) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.bitcount(key, begin, end)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "BITCOUNT", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.bitcount(key, begin, end))
                     .getValue();
@@ -1468,8 +2798,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long strLen(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.strlen(key)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "STRLEN", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.strlen(key))
                     .getValue();
@@ -1505,8 +2840,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Boolean zAdd(byte[] key, double score, byte[] value) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zadd(key, score, value), JedisConverters.longToBoolean()));
+            return null;
+        }
+
         try {
-            return JedisConverters.toBoolean(executor.executeCommandInResourcePool(resourcePool,
+            return JedisConverters.toBoolean(executor.executeCommandInResourcePool(resourcePool, "ZADD", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.zadd(key, score, value))
                     .getValue());
@@ -1517,8 +2857,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long zAdd(byte[] key, Set<Tuple> tuples) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zadd(key, JedisConverters.toTupleMap(tuples))));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ZADD", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.zadd(key, JedisConverters.toTupleMap(tuples)))
                     .getValue();
@@ -1529,8 +2874,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long zRem(byte[] key, byte[]... values) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zrem(key, values)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ZREM", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.zrem(key, values))
                     .getValue();
@@ -1541,8 +2891,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Double zIncrBy(byte[] key, double increment, byte[] value) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zincrby(key, increment, value)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ZINCRBY", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Double>) client ->
                             client.zincrby(key, increment, value))
                     .getValue();
@@ -1553,8 +2908,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long zRank(byte[] key, byte[] value) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zrank(key, value)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ZRANK", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.zrank(key, value))
                     .getValue();
@@ -1565,8 +2925,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long zRevRank(byte[] key, byte[] value) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zrevrank(key, value)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ZREVRANK", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.zrevrank(key, value))
                     .getValue();
@@ -1577,8 +2942,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Set<byte[]> zRange(byte[] key, long start, long end) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zrange(key, start, end)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ZRANGE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<byte[]>>) client ->
                             client.zrange(key, start, end))
                     .getValue();
@@ -1589,8 +2959,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Set<Tuple> zRangeWithScores(byte[] key, long start, long end) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zrangeWithScores(key, start, end), JedisConverters.tupleSetToTupleSet()));
+            return null;
+        }
+
         try {
-            return JedisConverters.toTupleSet(executor.executeCommandInResourcePool(resourcePool,
+            return JedisConverters.toTupleSet(executor.executeCommandInResourcePool(resourcePool, "ZRANGE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<redis.clients.jedis.Tuple>>) client ->
                             client.zrangeWithScores(key, start, end))
                     .getValue());
@@ -1626,9 +3001,15 @@ public class JodisConnection implements RedisClusterConnection {
             throw new IllegalArgumentException("Count/Offset cannot exceed Integer.MAX_VALUE!");
         }
 
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zrangeByScoreWithScores(key, min, max,
+                    Long.valueOf(offset).intValue(), Long.valueOf(count).intValue()), JedisConverters.tupleSetToTupleSet()));
+            return null;
+        }
+
         try {
             return JedisConverters.toTupleSet(
-                    executor.executeCommandInResourcePool(resourcePool,
+                    executor.executeCommandInResourcePool(resourcePool, "ZRANGEBYSCORE", key,
                             (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<redis.clients.jedis.Tuple>>) client ->
                                     client.zrangeByScoreWithScores(key, min, max,
                                             Long.valueOf(offset).intValue(), Long.valueOf(count).intValue()))
@@ -1645,16 +3026,25 @@ public class JodisConnection implements RedisClusterConnection {
         byte[] min = JedisConverters.boundaryToBytesForZRange(range.getMin(), JedisConverters.NEGATIVE_INFINITY_BYTES);
         byte[] max = JedisConverters.boundaryToBytesForZRange(range.getMax(), JedisConverters.POSITIVE_INFINITY_BYTES);
 
+        if (isPipelined()) {
+            if (limit != null) {
+                pipeline(new JedisResult(pipeline.zrangeByScoreWithScores(key, min, max, limit.getOffset(), limit.getCount()), JedisConverters.tupleSetToTupleSet()));
+            } else {
+                pipeline(new JedisResult(pipeline.zrangeByScoreWithScores(key, min, max), JedisConverters.tupleSetToTupleSet()));
+            }
+            return null;
+        }
+
         try {
             if (limit != null) {
                 return JedisConverters
-                        .toTupleSet(executor.executeCommandInResourcePool(resourcePool,
+                        .toTupleSet(executor.executeCommandInResourcePool(resourcePool, "ZRANGEBYSCORE", key,
                                 (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<redis.clients.jedis.Tuple>>) client ->
                                         client.zrangeByScoreWithScores(key, min, max,
                                                 limit.getOffset(), limit.getCount()))
                                 .getValue());
             }
-            return JedisConverters.toTupleSet(executor.executeCommandInResourcePool(resourcePool,
+            return JedisConverters.toTupleSet(executor.executeCommandInResourcePool(resourcePool, "ZRANGEBYSCORE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<redis.clients.jedis.Tuple>>) client ->
                             client.zrangeByScoreWithScores(key, min, max))
                     .getValue());
@@ -1665,8 +3055,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Set<byte[]> zRevRange(byte[] key, long start, long end) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zrevrange(key, start, end)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ZREVRANGE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<byte[]>>) client ->
                             client.zrevrange(key, start, end))
                     .getValue();
@@ -1677,9 +3072,14 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Set<Tuple> zRevRangeWithScores(byte[] key, long start, long end) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zrevrangeWithScores(key, start, end), JedisConverters.tupleSetToTupleSet()));
+            return null;
+        }
+
         try {
             return JedisConverters.toTupleSet(
-                    executor.executeCommandInResourcePool(resourcePool,
+                    executor.executeCommandInResourcePool(resourcePool, "ZREVRANGE", key,
                             (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<redis.clients.jedis.Tuple>>) client ->
                                     client.zrevrangeWithScores(key, start, end))
                             .getValue());
@@ -1690,8 +3090,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Set<byte[]> zRevRangeByScore(byte[] key, double min, double max) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zrevrangeByScore(key, max, min)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ZREVRANGEBYSCORE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<byte[]>>) client ->
                             client.zrevrangeByScore(key, min, max))
                     .getValue();
@@ -1707,8 +3112,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Set<Tuple> zRevRangeByScoreWithScores(byte[] key, double min, double max) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zrevrangeByScoreWithScores(key, max, min), JedisConverters.tupleSetToTupleSet()));
+            return null;
+        }
+
         try {
-            return JedisConverters.toTupleSet(executor.executeCommandInResourcePool(resourcePool,
+            return JedisConverters.toTupleSet(executor.executeCommandInResourcePool(resourcePool, "ZREVRANGEBYSCORE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<redis.clients.jedis.Tuple>>) client ->
                             client.zrevrangeByScoreWithScores(key, min, max))
                     .getValue());
@@ -1723,8 +3133,14 @@ public class JodisConnection implements RedisClusterConnection {
             throw new IllegalArgumentException("Count/Offset cannot exceed Integer.MAX_VALUE!");
         }
 
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zrevrangeByScore(key, max, min,
+                    Long.valueOf(offset).intValue(), Long.valueOf(count).intValue())));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ZREVRANGEBYSCORE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<byte[]>>) client ->
                             client.zrevrangeByScore(key, min, max))
                     .getValue();
@@ -1740,14 +3156,23 @@ public class JodisConnection implements RedisClusterConnection {
         byte[] min = JedisConverters.boundaryToBytesForZRange(range.getMin(), JedisConverters.NEGATIVE_INFINITY_BYTES);
         byte[] max = JedisConverters.boundaryToBytesForZRange(range.getMax(), JedisConverters.POSITIVE_INFINITY_BYTES);
 
+        if (isPipelined()) {
+            if (limit != null) {
+                pipeline(new JedisResult(pipeline.zrevrangeByScore(key, max, min, limit.getOffset(), limit.getCount())));
+            } else {
+                pipeline(new JedisResult(pipeline.zrevrangeByScore(key, max, min)));
+            }
+            return null;
+        }
+
         try {
             if (limit != null) {
-                return executor.executeCommandInResourcePool(resourcePool,
+                return executor.executeCommandInResourcePool(resourcePool, "ZREVRANGEBYSCORE", key,
                         (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<byte[]>>) client ->
                                 client.zrevrangeByScore(key, min, max, limit.getOffset(), limit.getCount()))
                         .getValue();
             }
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ZREVRANGEBYSCORE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<byte[]>>) client ->
                             client.zrevrangeByScore(key, min, max))
                     .getValue();
@@ -1763,8 +3188,14 @@ public class JodisConnection implements RedisClusterConnection {
             throw new IllegalArgumentException("Count/Offset cannot exceed Integer.MAX_VALUE!");
         }
 
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zrevrangeByScoreWithScores(key, max, min,
+                    Long.valueOf(offset).intValue(), Long.valueOf(count).intValue()), JedisConverters.tupleSetToTupleSet()));
+            return null;
+        }
+
         try {
-            return JedisConverters.toTupleSet(executor.executeCommandInResourcePool(resourcePool,
+            return JedisConverters.toTupleSet(executor.executeCommandInResourcePool(resourcePool, "ZREVRANGEBYSCORE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<redis.clients.jedis.Tuple>>) client ->
                             client.zrevrangeByScoreWithScores(key, min, max,
                                     Long.valueOf(offset).intValue(), Long.valueOf(count).intValue()))
@@ -1787,15 +3218,24 @@ public class JodisConnection implements RedisClusterConnection {
         byte[] min = JedisConverters.boundaryToBytesForZRange(range.getMin(), JedisConverters.NEGATIVE_INFINITY_BYTES);
         byte[] max = JedisConverters.boundaryToBytesForZRange(range.getMax(), JedisConverters.POSITIVE_INFINITY_BYTES);
 
+        if (isPipelined()) {
+            if (limit != null) {
+                pipeline(new JedisResult(pipeline.zrevrangeByScoreWithScores(key, max, min, limit.getOffset(), limit.getCount()), JedisConverters.tupleSetToTupleSet()));
+            } else {
+                pipeline(new JedisResult(pipeline.zrevrangeByScoreWithScores(key, max, min), JedisConverters.tupleSetToTupleSet()));
+            }
+            return null;
+        }
+
         try {
             if (limit != null) {
-                return JedisConverters.toTupleSet(executor.executeCommandInResourcePool(resourcePool,
+                return JedisConverters.toTupleSet(executor.executeCommandInResourcePool(resourcePool, "ZREVRANGEBYSCORE", key,
                         (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<redis.clients.jedis.Tuple>>) client ->
                                 client.zrevrangeByScoreWithScores(key, min, max,
                                         limit.getOffset(), limit.getCount()))
                         .getValue());
             }
-            return JedisConverters.toTupleSet(executor.executeCommandInResourcePool(resourcePool,
+            return JedisConverters.toTupleSet(executor.executeCommandInResourcePool(resourcePool, "ZREVRANGEBYSCORE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<redis.clients.jedis.Tuple>>) client ->
                             client.zrevrangeByScoreWithScores(key, min, max))
                     .getValue());
@@ -1806,8 +3246,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long zCount(byte[] key, double min, double max) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zcount(key, min, max)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ZCOUNT", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.zcount(key, min, max))
                     .getValue();
@@ -1823,8 +3268,13 @@ public class JodisConnection implements RedisClusterConnection {
         byte[] min = JedisConverters.boundaryToBytesForZRange(range.getMin(), JedisConverters.NEGATIVE_INFINITY_BYTES);
         byte[] max = JedisConverters.boundaryToBytesForZRange(range.getMax(), JedisConverters.POSITIVE_INFINITY_BYTES);
 
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zcount(key, min, max)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ZCOUNT", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.zcount(key, min, max))
                     .getValue();
@@ -1835,8 +3285,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long zCard(byte[] key) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zcard(key)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ZCARD", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.zcard(key))
                     .getValue();
@@ -1847,8 +3302,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Double zScore(byte[] key, byte[] value) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zscore(key, value)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ZSCORE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Double>) client ->
                             client.zscore(key, value))
                     .getValue();
@@ -1859,8 +3319,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long zRemRange(byte[] key, long start, long end) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zremrangeByRank(key, start, end)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ZREMRANGEBYRANK", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.zremrangeByRank(key, start, end))
                     .getValue();
@@ -1871,8 +3336,13 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Long zRemRangeByScore(byte[] key, double min, double max) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zremrangeByScore(key, min, max)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ZREMRANGEBYSCORE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.zremrangeByScore(key, min, max))
                     .getValue();
@@ -1888,8 +3358,13 @@ public class JodisConnection implements RedisClusterConnection {
         byte[] min = JedisConverters.boundaryToBytesForZRange(range.getMin(), JedisConverters.NEGATIVE_INFINITY_BYTES);
         byte[] max = JedisConverters.boundaryToBytesForZRange(range.getMax(), JedisConverters.POSITIVE_INFINITY_BYTES);
 
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zremrangeByScore(key, min, max)));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ZREMRANGEBYSCORE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                             client.zremrangeByScore(key, min, max))
                     .getValue();
@@ -1905,7 +3380,7 @@ public class JodisConnection implements RedisClusterConnection {
         if (ClusterSlotHashUtil.isSameSlotForAllKeys(allKeys)) {
 
             try {
-                return executor.executeCommandInResourcePool(resourcePool,
+                return executor.executeCommandInResourcePool(resourcePool, "ZUNIONSTORE",
                         (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                                 client.zunionstore(destKey, sets))
                         .getValue();
@@ -1927,7 +3402,7 @@ public class JodisConnection implements RedisClusterConnection {
             ZParams zparams = new ZParams().weights(weights).aggregate(ZParams.Aggregate.valueOf(aggregate.name()));
 
             try {
-                return executor.executeCommandInResourcePool(resourcePool,
+                return executor.executeCommandInResourcePool(resourcePool, "ZUNIONSTORE",
                         (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                                 client.zunionstore(destKey, zparams, sets))
                         .getValue();
@@ -1946,7 +3421,7 @@ public class JodisConnection implements RedisClusterConnection {
         if (ClusterSlotHashUtil.isSameSlotForAllKeys(allKeys)) {
 
             try {
-                return executor.executeCommandInResourcePool(resourcePool,
+                return executor.executeCommandInResourcePool(resourcePool, "ZINTERSTORE",
                         (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                                 client.zinterstore(destKey, sets))
                         .getValue();
@@ -1968,7 +3443,7 @@ public class JodisConnection implements RedisClusterConnection {
             ZParams zparams = new ZParams().weights(weights).aggregate(ZParams.Aggregate.valueOf(aggregate.name()));
 
             try {
-                return executor.executeCommandInResourcePool(resourcePool,
+                return executor.executeCommandInResourcePool(resourcePool, "ZINTERSTORE",
                         (JodisCommandExecutor.JodisCommandCallback<Jedis, Long>) client ->
                                 client.zinterstore(destKey, zparams, sets))
                         .getValue();
@@ -1982,29 +3457,43 @@ public class JodisConnection implements RedisClusterConnection {
 
     @Override
     public Cursor<Tuple> zScan(byte[] key, ScanOptions options) {
-        return new ScanCursor<Tuple>(options) {
+        if (isPipelined()) {
+            throw new UnsupportedOperationException("'ZSCAN' cannot be called in pipeline mode.");
+        }
+
+        JodisCommandExecutor pageExecutor = scanPageExecutor(scanPrefetch);
+        return new PrefetchingScanCursor<Tuple>(options, scanPrefetch ? prefetchExecutor : null) {
 
             @Override
-            protected ScanIteration<Tuple> doScan(long cursorId, ScanOptions options) {
+            protected ScanIteration<Tuple> doScanPage(long cursorId, ScanOptions options) {
 
                 ScanParams params = JedisConverters.toScanParams(options);
 
-                redis.clients.jedis.ScanResult<redis.clients.jedis.Tuple> result =
-                        executor.executeCommandInResourcePool(resourcePool,
-                                (JodisCommandExecutor.JodisCommandCallback<Jedis, ScanResult<redis.clients.jedis.Tuple>>) client ->
-                                        client.zscan(key, JedisConverters.toBytes(cursorId), params))
-                                .getValue();
-
-                return new ScanIteration<>(Long.parseLong(result.getStringCursor()),
-                        JedisConverters.tuplesToTuples().convert(result.getResult()));
+                try {
+                    redis.clients.jedis.ScanResult<redis.clients.jedis.Tuple> result =
+                            pageExecutor.executeCommandInResourcePool(resourcePool, "ZSCAN", key,
+                                    (JodisCommandExecutor.JodisCommandCallback<Jedis, ScanResult<redis.clients.jedis.Tuple>>) client ->
+                                            client.zscan(key, JedisConverters.toBytes(cursorId), params))
+                                    .getValue();
+
+                    return new ScanIteration<>(Long.parseLong(result.getStringCursor()),
+                            JedisConverters.tuplesToTuples().convert(result.getResult()));
+                } catch (Exception ex) {
+                    throw convertJedisAccessException(ex);
+                }
             }
         }.open();
     }
 
     @Override
     public Set<byte[]> zRangeByScore(byte[] key, String min, String max) {
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zrangeByScore(key, JedisConverters.toBytes(min), JedisConverters.toBytes(max))));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ZRANGEBYSCORE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<byte[]>>) client ->
                             client.zrangeByScore(key, JedisConverters.toBytes(min), JedisConverters.toBytes(max)))
                     .getValue();
@@ -2024,8 +3513,14 @@ public class JodisConnection implements RedisClusterConnection {
             throw new IllegalArgumentException("Count/Offset cannot exceed Integer.MAX_VALUE!");
         }
 
+        if (isPipelined()) {
+            pipeline(new JedisResult(pipeline.zrangeByScore(key, JedisConverters.toBytes(min), JedisConverters.toBytes(max),
+                    Long.valueOf(offset).intValue(), Long.valueOf(count).intValue())));
+            return null;
+        }
+
         try {
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ZRANGEBYSCORE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<byte[]>>) client ->
                             client.zrangeByScore(key, JedisConverters.toBytes(min), JedisConverters.toBytes(max),
                                     Long.valueOf(offset).intValue(), Long.valueOf(count).intValue()))
@@ -2042,15 +3537,24 @@ public class JodisConnection implements RedisClusterConnection {
         byte[] min = JedisConverters.boundaryToBytesForZRange(range.getMin(), JedisConverters.NEGATIVE_INFINITY_BYTES);
         byte[] max = JedisConverters.boundaryToBytesForZRange(range.getMax(), JedisConverters.POSITIVE_INFINITY_BYTES);
 
+        if (isPipelined()) {
+            if (limit != null) {
+                pipeline(new JedisResult(pipeline.zrangeByScore(key, min, max, limit.getOffset(), limit.getCount())));
+            } else {
+                pipeline(new JedisResult(pipeline.zrangeByScore(key, min, max)));
+            }
+            return null;
+        }
+
         try {
             if (limit != null) {
-                return executor.executeCommandInResourcePool(resourcePool,
+                return executor.executeCommandInResourcePool(resourcePool, "ZRANGEBYSCORE", key,
                         (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<byte[]>>) client ->
                                 client.zrangeByScore(key, min, max,
                                         limit.getOffset(), limit.getCount()))
                         .getValue();
             }
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ZRANGEBYSCORE", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<byte[]>>) client ->
                             client.zrangeByScore(key, min, max))
                     .getValue();
@@ -2076,15 +3580,24 @@ public class JodisConnection implements RedisClusterConnection {
         byte[] min = JedisConverters.boundaryToBytesForZRangeByLex(range.getMin(), JedisConverters.toBytes("-"));
         byte[] max = JedisConverters.boundaryToBytesForZRangeByLex(range.getMax(), JedisConverters.toBytes("+"));
 
+        if (isPipelined()) {
+            if (limit != null) {
+                pipeline(new JedisResult(pipeline.zrangeByLex(key, min, max, limit.getOffset(), limit.getCount())));
+            } else {
+                pipeline(new JedisResult(pipeline.zrangeByLex(key, min, max)));
+            }
+            return null;
+        }
+
         try {
             if (limit != null) {
-                return executor.executeCommandInResourcePool(resourcePool,
+                return executor.executeCommandInResourcePool(resourcePool, "ZRANGEBYLEX", key,
                         (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<byte[]>>) client ->
                                 client.zrangeByLex(key, min, max,
                                         limit.getOffset(), limit.getCount()))
                         .getValue();
             }
-            return executor.executeCommandInResourcePool(resourcePool,
+            return executor.executeCommandInResourcePool(resourcePool, "ZRANGEBYLEX", key,
                     (JodisCommandExecutor.JodisCommandCallback<Jedis, Set<byte[]>>) client ->
                             client.zrangeByLex(key, min, max))
                     .getValue();
@@ -2099,6 +3612,34 @@ public class JodisConnection implements RedisClusterConnection {
         return translated != null ? translated : new RedisSystemException(ex.getMessage(), ex);
     }
 
+    private class JedisResult extends FutureResult<Response<?>> {
+
+        <T> JedisResult(Response<T> resultHolder, Converter<T, ?> converter) {
+            super(resultHolder, converter);
+        }
+
+        <T> JedisResult(Response<T> resultHolder) {
+            super(resultHolder);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Object get() {
+            if (convertPipelineAndTxResults && converter != null) {
+                return converter.convert(resultHolder.get());
+            }
+            return resultHolder.get();
+        }
+    }
+
+    private class JedisStatusResult extends JedisResult {
+
+        JedisStatusResult(Response<?> resultHolder) {
+            super(resultHolder);
+            setStatus(true);
+        }
+    }
+
     // RedisClusterConnection method
 
     @Override
@@ -20,6 +20,7 @@ import io.codis.jodis.JedisResourcePool;
 import io.codis.jodis.RoundRobinJedisPool;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
@@ -29,9 +30,15 @@ import org.springframework.dao.InvalidDataAccessResourceUsageException;
 import org.springframework.data.redis.ExceptionTranslationStrategy;
 import org.springframework.data.redis.PassThroughExceptionTranslationStrategy;
 import org.springframework.data.redis.connection.*;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import redis.clients.jedis.JedisPoolConfig;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @NoArgsConstructor
 @Getter
@@ -43,9 +50,57 @@ public class JodisConnectionFactory implements InitializingBean, DisposableBean,
     private JedisPoolConfig poolConfig = new JedisPoolConfig();
     private JodisConfiguration zookeeperConfig;
     private JedisResourcePool resourcePool;
+    private JedisResourcePool blockingResourcePool;
+    private JodisAutoPipeliningExecutor autoPipelining;
+    private ExecutorService scanPrefetchExecutor;
+    private JodisSubscriberManager subscriberManager;
+    private JodisLockRegistry lockRegistry;
+    private JodisAsyncCommands asyncCommands;
+    private final JodisScriptCache scriptCache = new JodisScriptCache();
 
     private boolean usePool = true;
     private boolean convertPipelineAndTxResults = true;
+    @Setter
+    private boolean pinResource;
+    @Setter
+    private JodisAutoPipeliningConfiguration autoPipeliningConfig;
+    @Setter
+    private int scanParallelism = 1;
+    @Setter
+    private int scanPrefetchThreads = 4;
+    @Setter
+    private boolean scanPrefetch;
+    @Setter
+    private JodisNearCacheConfiguration nearCacheConfig;
+    private JodisNearCache nearCache;
+    @Setter
+    private JodisCommandMetrics commandMetrics;
+    @Setter
+    private JodisHotKeySampler hotKeySampler;
+    @Setter
+    private JodisBalancingStrategy balancingStrategy = JodisBalancingStrategy.ROUND_ROBIN;
+    /**
+     * Pool config of the separate resource pool used by blocking commands, {@code null} to share the regular pool.
+     */
+    @Setter
+    private JedisPoolConfig blockingPoolConfig;
+    @Setter
+    private JodisLockMetrics lockMetrics;
+    @Setter
+    private long lockLeaseMs = 30000;
+    @Setter
+    private boolean lockFencing;
+    @Setter
+    private int subscriptionDispatchThreads = 2;
+    @Setter
+    private int subscriptionQueueCapacity = 1000;
+    /**
+     * I/O lanes of the {@link JodisAsyncCommands}, {@code 0} to disable them.
+     */
+    @Setter
+    private int asyncLanes;
+    @Setter
+    private int asyncQueueCapacity = 10000;
 
     public JodisConnectionFactory(JodisConfiguration zookeeperConfig) {
         this.zookeeperConfig = zookeeperConfig;
@@ -58,6 +113,26 @@ public class JodisConnectionFactory implements InitializingBean, DisposableBean,
 
     @Override
     public void destroy() {
+        if (autoPipelining != null) {
+            autoPipelining.destroy();
+        }
+
+        if (scanPrefetchExecutor != null) {
+            scanPrefetchExecutor.shutdownNow();
+        }
+
+        if (subscriberManager != null) {
+            subscriberManager.close();
+        }
+
+        if (lockRegistry != null) {
+            lockRegistry.destroy();
+        }
+
+        if (asyncCommands != null) {
+            asyncCommands.destroy();
+        }
+
         if (resourcePool != null) {
             try {
                 resourcePool.close();
@@ -66,6 +141,14 @@ public class JodisConnectionFactory implements InitializingBean, DisposableBean,
             }
 
         }
+
+        if (blockingResourcePool != null) {
+            try {
+                blockingResourcePool.close();
+            } catch (Exception ex) {
+                log.warn("Cannot properly close blocking Jedis resource pool", ex);
+            }
+        }
     }
 
     @Override
@@ -73,16 +156,76 @@ public class JodisConnectionFactory implements InitializingBean, DisposableBean,
         if (zookeeperConfig != null) {
             resourcePool = createJedisResourcePool();
         }
+
+        if (zookeeperConfig != null && blockingPoolConfig != null) {
+            blockingResourcePool = createJedisResourcePool(zookeeperConfig, blockingPoolConfig);
+        }
+
+        if (resourcePool != null && autoPipeliningConfig != null) {
+            autoPipelining = new JodisAutoPipeliningExecutor(resourcePool, autoPipeliningConfig);
+        }
+
+        if (scanPrefetchThreads > 0) {
+            scanPrefetchExecutor = createScanPrefetchExecutor();
+        }
+
+        if (nearCacheConfig != null) {
+            nearCache = new JodisNearCache(nearCacheConfig);
+        }
+
+        if (resourcePool != null) {
+            subscriberManager = new JodisSubscriberManager(resourcePool, zookeeperConfig,
+                    subscriptionDispatchThreads, subscriptionQueueCapacity);
+
+            lockRegistry = new JodisLockRegistry(this, lockMetrics);
+            lockRegistry.setLeaseMs(lockLeaseMs);
+            lockRegistry.setFencing(lockFencing);
+        }
+
+        if (resourcePool != null && asyncLanes > 0) {
+            asyncCommands = new JodisAsyncCommands(resourcePool, asyncLanes, asyncQueueCapacity);
+            asyncCommands.setMetrics(commandMetrics);
+            asyncCommands.setHotKeys(hotKeySampler);
+            asyncCommands.setNearCache(nearCache);
+        }
     }
 
     @Override
     public RedisConnection getConnection() {
         if (resourcePool != null && usePool) {
-            return new JodisConnection(resourcePool);
+            JodisResourceProvider resourceProvider = pinResource
+                    ? new PinnedJodisResourceProvider() : new PooledJodisResourceProvider();
+            JodisConnection connection = new JodisConnection(resourcePool,
+                    new JodisCommandExecutor(resourceProvider, autoPipelining, commandMetrics, hotKeySampler),
+                    convertPipelineAndTxResults);
+            connection.setPrefetchExecutor(scanPrefetchExecutor);
+            connection.setScanParallelism(scanParallelism);
+            connection.setScanPrefetch(scanPrefetch);
+            connection.setScriptCache(scriptCache);
+            connection.setNearCache(nearCache);
+            connection.setSubscriberManager(subscriberManager);
+            connection.setBlockingResourcePool(blockingResourcePool);
+            return connection;
         }
         throw new InvalidDataAccessApiUsageException("Resource Pool is not configured!");
     }
 
+    /**
+     * @return the asynchronous commands, see {@link JodisAsyncCommands}.
+     */
+    public JodisAsyncCommands getAsyncCommands() {
+        Assert.state(asyncCommands != null, "Async commands are not enabled!");
+        return asyncCommands;
+    }
+
+    /**
+     * @return a lock on {@code name}, see {@link JodisLock}.
+     */
+    public JodisLock getLock(String name) {
+        Assert.state(lockRegistry != null, "Resource Pool is not configured!");
+        return lockRegistry.getLock(name);
+    }
+
     @Override
     public RedisClusterConnection getClusterConnection() {
         throw new InvalidDataAccessApiUsageException("Cluster is not configured!");
@@ -104,6 +247,16 @@ public class JodisConnectionFactory implements InitializingBean, DisposableBean,
     }
 
 
+    private ExecutorService createScanPrefetchExecutor() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("jodis-scan-");
+        threadFactory.setDaemon(true);
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(scanPrefetchThreads, scanPrefetchThreads,
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     private JedisResourcePool createJedisResourcePool() {
         return createJedisResourcePool(this.zookeeperConfig, poolConfig);
     }
@@ -111,6 +264,10 @@ public class JodisConnectionFactory implements InitializingBean, DisposableBean,
     protected JedisResourcePool createJedisResourcePool(JodisConfiguration zookeeperConfig, JedisPoolConfig poolConfig) {
         Assert.notNull(zookeeperConfig, "Zookeeper configuration must not be null!");
 
+        if (balancingStrategy != null && balancingStrategy != JodisBalancingStrategy.ROUND_ROBIN) {
+            return new BalancedJedisPool(zookeeperConfig, poolConfig, balancingStrategy);
+        }
+
         return RoundRobinJedisPool.create()
                 .connectionTimeoutMs(zookeeperConfig.getConnectionTimeoutMs())
                 .soTimeoutMs(zookeeperConfig.getSoTimeoutMs())
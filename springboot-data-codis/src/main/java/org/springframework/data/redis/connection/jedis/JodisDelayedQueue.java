@@ -0,0 +1,286 @@
+package org.springframework.data.redis.connection.jedis;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Delayed jobs on a Codis sorted set scored by due time, polled by any number of nodes.
+ * <p>
+ * A poll claims up to a batch of due items atomically by moving them into a claimed set, scored by the end of
+ * their lease, so no two pollers get the same item. Handled items are {@link #ack(List) acknowledged}; the items
+ * of a poller which died are claimed again once their lease is over. Each poll is a single script call costing
+ * {@code O(log(N) + batch)}, and tells the poller when the next item is due, so idle pollers sleep until then,
+ * bounded by {@code maxPollIntervalMs} to notice items scheduled by other nodes.
+ * <p>
+ * Due times come from the clocks of the scheduling and polling nodes, which should be kept in sync.
+ */
+@Slf4j
+public class JodisDelayedQueue {
+
+    private static final byte[] CLAIM_SCRIPT = ("local limit = tonumber(ARGV[2])\n"
+            + "local items = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1], 'LIMIT', 0, limit)\n"
+            + "if #items < limit then\n"
+            + "  local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, limit - #items)\n"
+            + "  if #due > 0 then\n"
+            + "    redis.call('ZREM', KEYS[1], unpack(due))\n"
+            + "    for i = 1, #due do items[#items + 1] = due[i] end\n"
+            + "  end\n"
+            + "end\n"
+            + "for i = 1, #items do redis.call('ZADD', KEYS[2], ARGV[3], items[i]) end\n"
+            + "local next = -1\n"
+            + "for _, key in ipairs(KEYS) do\n"
+            + "  local first = redis.call('ZRANGE', key, 0, 0, 'WITHSCORES')\n"
+            + "  if #first > 0 and (next < 0 or tonumber(first[2]) < next) then next = tonumber(first[2]) end\n"
+            + "end\n"
+            + "items[#items + 1] = string.format('%d', next)\n"
+            + "return items").getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] RETRY_SCRIPT = ("if redis.call('ZREM', KEYS[2], ARGV[2]) == 1 then\n"
+            + "  return redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])\n"
+            + "end\n"
+            + "return 0").getBytes(StandardCharsets.UTF_8);
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private final RedisConnectionFactory connectionFactory;
+    @Getter
+    private final String name;
+    private final byte[] delayedKey;
+    private final byte[] claimedKey;
+
+    @Setter
+    private int batchSize = 100;
+    /**
+     * Time a claimed item is reserved for its poller before other pollers may claim it again.
+     */
+    @Setter
+    private long leaseMs = 60000;
+    /**
+     * Delay before an item whose handler failed is due again.
+     */
+    @Setter
+    private long retryDelayMs = 5000;
+    @Setter
+    private long minPollIntervalMs = 10;
+    @Setter
+    private long maxPollIntervalMs = 1000;
+
+    private final Object wakeUp = new Object();
+    private ExecutorService pollers;
+    private volatile boolean running;
+    private volatile long nextWakeUp = Long.MAX_VALUE;
+
+    public JodisDelayedQueue(RedisConnectionFactory connectionFactory, String name) {
+        Assert.notNull(connectionFactory, "Connection factory must not be null!");
+        Assert.hasText(name, "Queue name must not be empty!");
+        this.connectionFactory = connectionFactory;
+        this.name = name;
+        this.delayedKey = key("delayed");
+        this.claimedKey = key("claimed");
+    }
+
+    public void schedule(byte[] item, long delay, TimeUnit unit) {
+        scheduleAt(item, System.currentTimeMillis() + unit.toMillis(delay));
+    }
+
+    public void scheduleAt(byte[] item, long dueAtMillis) {
+        Assert.notNull(item, "Item must not be null!");
+        execute(connection -> connection.zAdd(delayedKey, dueAtMillis, item));
+
+        if (running && dueAtMillis < nextWakeUp) {
+            synchronized (wakeUp) {
+                wakeUp.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Removes a scheduled item which has not been claimed yet.
+     *
+     * @return whether the item was removed.
+     */
+    public boolean cancel(byte[] item) {
+        Long removed = execute(connection -> connection.zRem(delayedKey, item));
+        return removed != null && removed > 0;
+    }
+
+    public Long size() {
+        return execute(connection -> connection.zCard(delayedKey));
+    }
+
+    /**
+     * Claims up to {@code count} due items, including items whose lease ran out.
+     */
+    public Claim claim(int count) {
+        Assert.isTrue(count > 0 && count <= MAX_BATCH_SIZE, "Count must be between 1 and " + MAX_BATCH_SIZE);
+
+        long now = System.currentTimeMillis();
+        List<byte[]> reply = execute(connection -> connection.eval(CLAIM_SCRIPT, ReturnType.MULTI, 2,
+                delayedKey, claimedKey, JedisConverters.toBytes(now), JedisConverters.toBytes(count),
+                JedisConverters.toBytes(now + leaseMs)));
+        return parseClaim(reply);
+    }
+
+    static Claim parseClaim(List<byte[]> reply) {
+        if (reply == null || reply.isEmpty()) {
+            return new Claim(Collections.emptyList(), -1);
+        }
+
+        long nextDueAt = Long.parseLong(JedisConverters.toString(reply.get(reply.size() - 1)));
+        return new Claim(new ArrayList<>(reply.subList(0, reply.size() - 1)), nextDueAt);
+    }
+
+    /**
+     * Releases handled items.
+     */
+    public void ack(List<byte[]> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        execute(connection -> connection.zRem(claimedKey, items.toArray(new byte[items.size()][])));
+    }
+
+    /**
+     * Schedules a claimed item again at {@code dueAtMillis}.
+     */
+    public void retryAt(byte[] item, long dueAtMillis) {
+        execute(connection -> connection.eval(RETRY_SCRIPT, ReturnType.INTEGER, 2, delayedKey, claimedKey,
+                JedisConverters.toBytes(dueAtMillis), item));
+    }
+
+    public synchronized void start(int threads, JobHandler handler) {
+        Assert.isTrue(threads > 0, "Threads must be positive!");
+        Assert.notNull(handler, "Handler must not be null!");
+        Assert.state(!running, "Delayed queue " + name + " is already polled");
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("jodis-delayed-" + name + "-");
+        threadFactory.setDaemon(true);
+        pollers = Executors.newFixedThreadPool(threads, threadFactory);
+        running = true;
+        for (int i = 0; i < threads; i++) {
+            pollers.execute(() -> poll(handler));
+        }
+    }
+
+    public synchronized void stop(long timeoutMs) {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        synchronized (wakeUp) {
+            wakeUp.notifyAll();
+        }
+        pollers.shutdown();
+        try {
+            if (!pollers.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("Pollers of delayed queue {} did not stop in {} ms", name, timeoutMs);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void poll(JobHandler handler) {
+        while (running) {
+            long waitMs;
+            try {
+                Claim claim = claim(batchSize);
+                handle(claim.getItems(), handler);
+                waitMs = claim.getItems().size() == batchSize ? 0 : waitTime(claim.getNextDueAt());
+            } catch (Exception ex) {
+                log.warn("Polling delayed queue {} failed", name, ex);
+                waitMs = maxPollIntervalMs;
+            }
+
+            if (waitMs > 0) {
+                try {
+                    synchronized (wakeUp) {
+                        nextWakeUp = System.currentTimeMillis() + waitMs;
+                        wakeUp.wait(waitMs);
+                        nextWakeUp = Long.MAX_VALUE;
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private long waitTime(long nextDueAt) {
+        if (nextDueAt < 0) {
+            return maxPollIntervalMs;
+        }
+        long untilDue = nextDueAt - System.currentTimeMillis();
+        return Math.min(Math.max(untilDue, minPollIntervalMs), maxPollIntervalMs);
+    }
+
+    private void handle(List<byte[]> items, JobHandler handler) {
+        List<byte[]> handled = new ArrayList<>(items.size());
+        for (byte[] item : items) {
+            if (!running) {
+                // left to expire its lease
+                break;
+            }
+            try {
+                handler.handle(item);
+                handled.add(item);
+            } catch (Exception ex) {
+                log.warn("Handler of delayed queue {} failed, retrying in {} ms", name, retryDelayMs, ex);
+                retryAt(item, System.currentTimeMillis() + retryDelayMs);
+            }
+        }
+        ack(handled);
+    }
+
+    private <T> T execute(Function<RedisConnection, T> action) {
+        RedisConnection connection = connectionFactory.getConnection();
+        try {
+            return action.apply(connection);
+        } finally {
+            connection.close();
+        }
+    }
+
+    private byte[] key(String suffix) {
+        return ("{" + name + "}:" + suffix).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Getter
+    public static class Claim {
+        private final List<byte[]> items;
+        /**
+         * Due time of the earliest remaining item or lease, {@code -1} when there is none.
+         */
+        private final long nextDueAt;
+
+        Claim(List<byte[]> items, long nextDueAt) {
+            this.items = items;
+            this.nextDueAt = nextDueAt;
+        }
+    }
+
+    public interface JobHandler {
+        void handle(byte[] item) throws Exception;
+    }
+}
@@ -0,0 +1,264 @@
+package org.springframework.data.redis.connection.jedis;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.CodisSlotHashUtil;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.core.ScanIteration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Copies keys from one Codis cluster to another with {@code DUMP} and {@code RESTORE}, without deserializing values.
+ * <p>
+ * Work is split by Codis slot: up to {@code parallelism} slots are migrated at once, each in pipelined batches of
+ * {@code batchSize} keys. A slot is marked in the {@link JodisMigrationCheckpoint} once all its keys were copied,
+ * so a failed or interrupted run can be resumed with the same checkpoint. Keys which already exist in the target are
+ * left alone unless {@code replace} is set, which makes resuming a partially copied slot safe either way.
+ */
+@Slf4j
+public class JodisKeyMigrator {
+
+    private static final long NO_KEY = -2;
+
+    private final JodisConnectionFactory source;
+    private final RedisConnectionFactory target;
+
+    @Setter
+    private int batchSize = 500;
+    @Setter
+    private int parallelism = 4;
+    @Setter
+    private boolean replace;
+    @Setter
+    private Consumer<JodisMigrationCheckpoint> checkpointListener;
+
+    public JodisKeyMigrator(JodisConnectionFactory source, RedisConnectionFactory target) {
+        Assert.notNull(source, "Source connection factory must not be null!");
+        Assert.notNull(target, "Target connection factory must not be null!");
+        this.source = source;
+        this.target = target;
+    }
+
+    /**
+     * Migrates the keys matching {@code pattern}, all keys when it is {@code null}.
+     */
+    public Result migrate(byte[] pattern, JodisMigrationCheckpoint checkpoint) {
+        List<Integer> slots = new ArrayList<>();
+        for (int slot = 0; slot < CodisSlotHashUtil.SLOT_COUNT; slot++) {
+            slots.add(slot);
+        }
+
+        Counters counters = new Counters();
+        return run(slots, checkpoint, counters, slot -> () -> {
+            migrateSlot(slot, pattern, counters);
+            return null;
+        });
+    }
+
+    /**
+     * Migrates the given keys.
+     */
+    public Result migrate(Collection<byte[]> keys, JodisMigrationCheckpoint checkpoint) {
+        Assert.notNull(keys, "Keys must not be null!");
+
+        Map<Integer, List<byte[]>> keysBySlot = new TreeMap<>();
+        for (byte[] key : keys) {
+            keysBySlot.computeIfAbsent(CodisSlotHashUtil.calculateSlot(key), slot -> new ArrayList<>()).add(key);
+        }
+
+        Counters counters = new Counters();
+        return run(new ArrayList<>(keysBySlot.keySet()), checkpoint, counters, slot -> () -> {
+            List<byte[]> slotKeys = keysBySlot.get(slot);
+            try (ConnectionPair connections = new ConnectionPair()) {
+                for (int from = 0; from < slotKeys.size(); from += batchSize) {
+                    migrateBatch(connections, slotKeys.subList(from, Math.min(from + batchSize, slotKeys.size())),
+                            counters);
+                }
+            }
+            return null;
+        });
+    }
+
+    private Result run(List<Integer> slots, JodisMigrationCheckpoint checkpoint, Counters counters,
+                       SlotTaskFactory tasks) {
+        Assert.notNull(checkpoint, "Checkpoint must not be null!");
+        Assert.isTrue(batchSize > 0, "Batch size must be positive!");
+        Assert.isTrue(parallelism > 0, "Parallelism must be positive!");
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("jodis-migrate-");
+        threadFactory.setDaemon(true);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, threadFactory);
+
+        try {
+            Map<Integer, Future<Void>> futures = new TreeMap<>();
+            for (Integer slot : slots) {
+                if (!checkpoint.isCompleted(slot)) {
+                    futures.put(slot, executor.submit(tasks.create(slot)));
+                }
+            }
+
+            long failedSlots = 0;
+            for (Map.Entry<Integer, Future<Void>> entry : futures.entrySet()) {
+                try {
+                    entry.getValue().get();
+                    checkpoint.markCompleted(entry.getKey());
+                    if (checkpointListener != null) {
+                        checkpointListener.accept(checkpoint);
+                    }
+                } catch (ExecutionException ex) {
+                    failedSlots++;
+                    log.warn("Cannot migrate slot {}", entry.getKey(), ex.getCause());
+                }
+            }
+
+            return new Result(counters.migrated.get(), counters.skipped.get(), failedSlots);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Migration interrupted", ex);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void migrateSlot(int slot, byte[] pattern, Counters counters) {
+        try (ConnectionPair connections = new ConnectionPair()) {
+            long cursorId = 0;
+            do {
+                ScanIteration<byte[]> page = connections.source.slotsScan(slot, cursorId, batchSize);
+                List<byte[]> keys = new ArrayList<>();
+                for (byte[] key : page) {
+                    if (pattern == null || KeyPatternMatcher.matches(pattern, key)) {
+                        keys.add(key);
+                    }
+                }
+                if (!keys.isEmpty()) {
+                    migrateBatch(connections, keys, counters);
+                }
+                cursorId = page.getCursorId();
+            } while (cursorId != 0);
+        }
+    }
+
+    private void migrateBatch(ConnectionPair connections, List<byte[]> keys, Counters counters) {
+        connections.source.openPipeline();
+        for (byte[] key : keys) {
+            connections.source.dump(key);
+            connections.source.pTtl(key);
+        }
+        List<Object> dumps = connections.source.closePipeline();
+
+        int restores = 0;
+        connections.target.openPipeline();
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] key = keys.get(i);
+            byte[] value = (byte[]) dumps.get(2 * i);
+            long ttl = (Long) dumps.get(2 * i + 1);
+            if (value == null || ttl == NO_KEY) {
+                counters.skipped.incrementAndGet();
+                continue;
+            }
+
+            if (replace) {
+                connections.target.del(key);
+            }
+            if (ttl > Integer.MAX_VALUE) {
+                connections.target.restore(key, 0, value);
+                connections.target.pExpire(key, ttl);
+            } else {
+                connections.target.restore(key, Math.max(ttl, 0), value);
+            }
+            restores++;
+        }
+
+        int existing = 0;
+        try {
+            connections.target.closePipeline();
+        } catch (RedisPipelineException ex) {
+            for (Object result : ex.getPipelineResult()) {
+                if (!(result instanceof Exception)) {
+                    continue;
+                }
+                if (String.valueOf(((Exception) result).getMessage()).contains("BUSYKEY")) {
+                    existing++;
+                } else {
+                    throw ex;
+                }
+            }
+        }
+
+        counters.migrated.addAndGet(restores - existing);
+        counters.skipped.addAndGet(existing);
+    }
+
+    @Getter
+    public static class Result {
+        /**
+         * Keys restored into the target.
+         */
+        private final long migratedKeys;
+        /**
+         * Keys gone from the source before they were dumped, or already present in the target.
+         */
+        private final long skippedKeys;
+        /**
+         * Slots which are not marked completed in the checkpoint because of an error.
+         */
+        private final long failedSlots;
+
+        Result(long migratedKeys, long skippedKeys, long failedSlots) {
+            this.migratedKeys = migratedKeys;
+            this.skippedKeys = skippedKeys;
+            this.failedSlots = failedSlots;
+        }
+
+        @Override
+        public String toString() {
+            return "migrated=" + migratedKeys + ", skipped=" + skippedKeys + ", failedSlots=" + failedSlots;
+        }
+    }
+
+    private interface SlotTaskFactory {
+        Callable<Void> create(int slot);
+    }
+
+    private static class Counters {
+        private final AtomicLong migrated = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+    }
+
+    private class ConnectionPair implements AutoCloseable {
+        private final JodisConnection source;
+        private final RedisConnection target;
+
+        ConnectionPair() {
+            this.source = (JodisConnection) JodisKeyMigrator.this.source.getConnection();
+            this.target = JodisKeyMigrator.this.target.getConnection();
+        }
+
+        @Override
+        public void close() {
+            try {
+                source.close();
+            } finally {
+                target.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,407 @@
+package org.springframework.data.redis.connection.jedis;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.util.Assert;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Stores values too large for a single Codis command as a manifest under the key and fixed-size chunk keys.
+ * <p>
+ * Values up to {@code threshold} bytes are stored as they are, so a plain {@code GET} still reads them; the rare
+ * small value starting with the manifest marker {@code 0xC1} is escaped with a {@code 0xC1 0x00} header. Larger
+ * values are written {@code pipelineChunks} chunks per pipeline, streaming from an {@link InputStream}, and the
+ * manifest is only set once every chunk is written. Reads fetch one chunk at a time, so neither side holds more
+ * than a pipeline batch or a chunk of the value in memory.
+ * <p>
+ * Every write uses new chunk keys and swaps the manifest with {@code GETSET}, then deletes the chunks of the
+ * manifest it replaced, so concurrent writers each clean up exactly what they displaced and a read racing with
+ * a rewrite fails on its next chunk instead of mixing both values. Chunks written by a process which died
+ * before setting the manifest are not cleaned up.
+ */
+@Slf4j
+public class JodisLargeValueStore {
+
+    static final byte MAGIC = (byte) 0xC1;
+    static final byte INLINE = 0;
+    static final byte CHUNKED = 1;
+
+    private static final int MANIFEST_LENGTH = 26;
+    private static final byte[] CHUNK_INFIX = ":chunk:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] GET_AND_DELETE = ("local value = redis.call('GET', KEYS[1]) "
+            + "redis.call('DEL', KEYS[1]) return value").getBytes(StandardCharsets.UTF_8);
+
+    private final RedisConnectionFactory connectionFactory;
+
+    @Getter
+    @Setter
+    private int chunkSize = 256 * 1024;
+    /**
+     * Largest value stored under the key itself, at most {@code chunkSize}.
+     */
+    @Getter
+    @Setter
+    private int threshold = 256 * 1024;
+    /**
+     * Chunks written per pipeline, bounding the memory held by a write to {@code pipelineChunks * chunkSize}.
+     */
+    @Getter
+    @Setter
+    private int pipelineChunks = 4;
+
+    public JodisLargeValueStore(RedisConnectionFactory connectionFactory) {
+        Assert.notNull(connectionFactory, "Connection factory must not be null!");
+        this.connectionFactory = connectionFactory;
+    }
+
+    public void put(byte[] key, byte[] value) {
+        Assert.notNull(value, "Value must not be null!");
+        try {
+            put(key, new ByteArrayInputStream(value));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Stores the remaining content of {@code in}, which is not closed.
+     *
+     * @return the number of bytes stored.
+     */
+    public long put(byte[] key, InputStream in) throws IOException {
+        Assert.notNull(key, "Key must not be null!");
+        Assert.notNull(in, "Input stream must not be null!");
+        Assert.isTrue(chunkSize > 0, "Chunk size must be positive");
+
+        byte[] first = readChunk(in, chunkSize);
+        if (first.length < chunkSize && first.length <= threshold) {
+            byte[] inline = escape(first);
+            deleteChunks(key, swap(key, inline));
+            return first.length;
+        }
+
+        Manifest manifest = new Manifest(ThreadLocalRandom.current().nextLong(), chunkSize);
+        Manifest previous;
+        try {
+            List<byte[]> batch = new ArrayList<>(pipelineChunks);
+            byte[] chunk = first;
+            while (chunk.length > 0) {
+                batch.add(chunk);
+                manifest.length += chunk.length;
+                if (batch.size() >= Math.max(pipelineChunks, 1)) {
+                    writeChunks(key, manifest, batch);
+                }
+                chunk = chunk.length < chunkSize ? new byte[0] : readChunk(in, chunkSize);
+            }
+            writeChunks(key, manifest, batch);
+
+            previous = swap(key, manifest.encode());
+        } catch (IOException | RuntimeException ex) {
+            deleteChunks(key, manifest);
+            throw ex;
+        }
+
+        deleteChunks(key, previous);
+        return manifest.length;
+    }
+
+    /**
+     * Opens a stream over the value of {@code key}, fetching its chunks as they are read.
+     *
+     * @return the stream, or {@code null} if the key does not exist.
+     */
+    public InputStream openStream(byte[] key) {
+        Assert.notNull(key, "Key must not be null!");
+        byte[] stored = execute(connection -> connection.get(key));
+        if (stored == null) {
+            return null;
+        }
+
+        Manifest manifest = Manifest.parse(stored);
+        if (manifest == null) {
+            return new ByteArrayInputStream(unescape(stored));
+        }
+        return new ChunkInputStream(key, manifest);
+    }
+
+    /**
+     * Writes the value of {@code key} to {@code channel} chunk by chunk.
+     *
+     * @return the number of bytes written, or {@code -1} if the key does not exist.
+     */
+    public long transferTo(byte[] key, WritableByteChannel channel) throws IOException {
+        Assert.notNull(key, "Key must not be null!");
+        Assert.notNull(channel, "Channel must not be null!");
+        byte[] stored = execute(connection -> connection.get(key));
+        if (stored == null) {
+            return -1;
+        }
+
+        Manifest manifest = Manifest.parse(stored);
+        if (manifest == null) {
+            return writeFully(channel, unescape(stored));
+        }
+
+        long written = 0;
+        for (int index = 0; index < manifest.getChunkCount(); index++) {
+            written += writeFully(channel, fetchChunk(key, manifest, index));
+        }
+        return written;
+    }
+
+    /**
+     * Size of the stored value, or {@code -1} if the key does not exist.
+     */
+    public long size(byte[] key) {
+        byte[] stored = execute(connection -> connection.get(key));
+        if (stored == null) {
+            return -1;
+        }
+
+        Manifest manifest = Manifest.parse(stored);
+        return manifest != null ? manifest.length : unescape(stored).length;
+    }
+
+    public boolean delete(byte[] key) {
+        Assert.notNull(key, "Key must not be null!");
+        byte[] stored = execute(connection -> connection.eval(GET_AND_DELETE, ReturnType.VALUE, 1, key));
+        if (stored == null) {
+            return false;
+        }
+
+        deleteChunks(key, Manifest.parse(stored));
+        return true;
+    }
+
+    /**
+     * Sets the value of {@code key} and returns the manifest it replaced, if any.
+     */
+    private Manifest swap(byte[] key, byte[] value) {
+        byte[] stored = execute(connection -> connection.getSet(key, value));
+        return stored != null ? Manifest.parse(stored) : null;
+    }
+
+    private void writeChunks(byte[] key, Manifest manifest, List<byte[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        int first = manifest.written;
+        execute(connection -> {
+            connection.openPipeline();
+            try {
+                for (int i = 0; i < batch.size(); i++) {
+                    connection.set(chunkKey(key, manifest.generation, first + i), batch.get(i));
+                }
+            } finally {
+                connection.closePipeline();
+            }
+            return null;
+        });
+        manifest.written += batch.size();
+        batch.clear();
+    }
+
+    private void deleteChunks(byte[] key, Manifest manifest) {
+        if (manifest == null || manifest.written == 0) {
+            return;
+        }
+
+        try {
+            execute(connection -> {
+                connection.openPipeline();
+                try {
+                    for (int index = 0; index < manifest.written; index++) {
+                        connection.del(chunkKey(key, manifest.generation, index));
+                    }
+                } finally {
+                    connection.closePipeline();
+                }
+                return null;
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Cannot delete the {} chunks of a replaced large value", manifest.written, ex);
+        }
+    }
+
+    private byte[] fetchChunk(byte[] key, Manifest manifest, int index) throws IOException {
+        byte[] chunk = execute(connection -> connection.get(chunkKey(key, manifest.generation, index)));
+        if (chunk == null) {
+            throw new IOException("Chunk " + index + " of " + manifest.getChunkCount()
+                    + " is missing, the value was replaced or deleted while being read");
+        }
+        return chunk;
+    }
+
+    private <T> T execute(Function<RedisConnection, T> action) {
+        RedisConnection connection = connectionFactory.getConnection();
+        try {
+            return action.apply(connection);
+        } finally {
+            connection.close();
+        }
+    }
+
+    static byte[] chunkKey(byte[] key, long generation, int index) {
+        byte[] suffix = (Long.toHexString(generation) + ":" + index).getBytes(StandardCharsets.UTF_8);
+        byte[] chunkKey = Arrays.copyOf(key, key.length + CHUNK_INFIX.length + suffix.length);
+        System.arraycopy(CHUNK_INFIX, 0, chunkKey, key.length, CHUNK_INFIX.length);
+        System.arraycopy(suffix, 0, chunkKey, key.length + CHUNK_INFIX.length, suffix.length);
+        return chunkKey;
+    }
+
+    static byte[] escape(byte[] value) {
+        if (value.length == 0 || value[0] != MAGIC) {
+            return value;
+        }
+
+        byte[] escaped = new byte[value.length + 2];
+        escaped[0] = MAGIC;
+        escaped[1] = INLINE;
+        System.arraycopy(value, 0, escaped, 2, value.length);
+        return escaped;
+    }
+
+    static byte[] unescape(byte[] stored) {
+        return stored.length >= 2 && stored[0] == MAGIC && stored[1] == INLINE
+                ? Arrays.copyOfRange(stored, 2, stored.length) : stored;
+    }
+
+    private static byte[] readChunk(InputStream in, int size) throws IOException {
+        byte[] buffer = new byte[size];
+        int length = 0;
+        while (length < size) {
+            int read = in.read(buffer, length, size - length);
+            if (read < 0) {
+                break;
+            }
+            length += read;
+        }
+        return length == size ? buffer : Arrays.copyOf(buffer, length);
+    }
+
+    private static long writeFully(WritableByteChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return bytes.length;
+    }
+
+    /**
+     * {@code 0xC1 0x01}, the value length, the chunk size and the generation naming the chunk keys.
+     */
+    static class Manifest {
+        private final long generation;
+        private final int chunkSize;
+        private long length;
+        private int written;
+
+        Manifest(long generation, int chunkSize) {
+            this.generation = generation;
+            this.chunkSize = chunkSize;
+        }
+
+        int getChunkCount() {
+            return (int) ((length + chunkSize - 1) / chunkSize);
+        }
+
+        long getLength() {
+            return length;
+        }
+
+        byte[] encode() {
+            return ByteBuffer.allocate(MANIFEST_LENGTH)
+                    .put(MAGIC).put(CHUNKED)
+                    .putLong(length).putInt(chunkSize).putInt(getChunkCount()).putLong(generation)
+                    .array();
+        }
+
+        static Manifest parse(byte[] stored) {
+            if (stored.length != MANIFEST_LENGTH || stored[0] != MAGIC || stored[1] != CHUNKED) {
+                return null;
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(stored, 2, MANIFEST_LENGTH - 2);
+            long length = buffer.getLong();
+            int chunkSize = buffer.getInt();
+            int chunkCount = buffer.getInt();
+            Manifest manifest = new Manifest(buffer.getLong(), chunkSize);
+            manifest.length = length;
+            manifest.written = chunkCount;
+            if (chunkSize <= 0 || length < 0 || chunkCount != manifest.getChunkCount()) {
+                throw new DataRetrievalFailureException("Corrupt large value manifest");
+            }
+            return manifest;
+        }
+    }
+
+    private class ChunkInputStream extends InputStream {
+        private final byte[] key;
+        private final Manifest manifest;
+        private int nextChunk;
+        private byte[] chunk = new byte[0];
+        private int position;
+
+        ChunkInputStream(byte[] key, Manifest manifest) {
+            this.key = key;
+            this.manifest = manifest;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            return chunk[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+
+            int count = Math.min(length, chunk.length - position);
+            System.arraycopy(chunk, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return chunk.length - position;
+        }
+
+        private boolean fill() throws IOException {
+            while (position >= chunk.length) {
+                if (nextChunk >= manifest.getChunkCount()) {
+                    return false;
+                }
+                chunk = fetchChunk(key, manifest, nextChunk++);
+                position = 0;
+            }
+            return true;
+        }
+    }
+}
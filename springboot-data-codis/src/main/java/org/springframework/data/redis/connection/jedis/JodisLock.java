@@ -0,0 +1,212 @@
+package org.springframework.data.redis.connection.jedis;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.JodisLockMetrics;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.util.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lease-based lock on a Codis key, holding a random owner token while locked.
+ * <p>
+ * The lock is taken with {@code SET key token PX lease NX} and released or renewed only while the key still holds
+ * the token, so an owner whose lease ran out never releases the lock of the next owner. Held locks are renewed at a
+ * third of their lease until released. With fencing enabled every acquisition also gets a {@link #getFencingToken()
+ * fencing token}, increasing per lock, to be passed along to the resources the lock protects.
+ * <p>
+ * A lock is not reentrant, and is meant to be used by one owner at a time; get a new one from the registry per
+ * owner.
+ */
+@Slf4j
+public class JodisLock {
+
+    private static final byte[] ACQUIRE_SCRIPT = ("if redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2], 'NX') then\n"
+            + "  if ARGV[3] == '1' then return redis.call('INCR', KEYS[2]) end\n"
+            + "  return 0\n"
+            + "end\n"
+            + "return -1").getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] RELEASE_SCRIPT = ("if redis.call('GET', KEYS[1]) == ARGV[1] then\n"
+            + "  return redis.call('DEL', KEYS[1])\n"
+            + "end\n"
+            + "return 0").getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] RENEW_SCRIPT = ("if redis.call('GET', KEYS[1]) == ARGV[1] then\n"
+            + "  return redis.call('PEXPIRE', KEYS[1], ARGV[2])\n"
+            + "end\n"
+            + "return 0").getBytes(StandardCharsets.UTF_8);
+
+    private static final long MAX_RETRY_SLEEP_MS = 50;
+
+    private final JodisLockRegistry registry;
+    @Getter
+    private final String name;
+    private final byte[] key;
+    private final byte[] fenceKey;
+
+    private volatile byte[] token;
+    private volatile long fencingToken = -1;
+    private ScheduledFuture<?> renewal;
+
+    JodisLock(JodisLockRegistry registry, String name) {
+        Assert.hasText(name, "Lock name must not be empty!");
+        this.registry = registry;
+        this.name = name;
+        this.key = ("{lock:" + name + "}").getBytes(StandardCharsets.UTF_8);
+        this.fenceKey = ("{lock:" + name + "}:fence").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return whether the lock was acquired, {@code false} as well when this owner already holds it.
+     */
+    public boolean tryLock() {
+        if (isHeld()) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        boolean acquired = attempt();
+        recordAcquire(acquired, System.nanoTime() - start);
+        return acquired;
+    }
+
+    /**
+     * Retries with a jittered backoff until the lock is acquired or {@code waitTime} ran out.
+     *
+     * @return whether the lock was acquired, {@code false} right away when this owner already holds it.
+     */
+    public boolean tryLock(long waitTime, TimeUnit unit) throws InterruptedException {
+        if (isHeld()) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + unit.toNanos(waitTime);
+        long sleepMs = 1;
+
+        boolean acquired = attempt();
+        while (!acquired && System.nanoTime() < deadline) {
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            TimeUnit.MILLISECONDS.sleep(Math.max(1, Math.min(remainingMs,
+                    ThreadLocalRandom.current().nextLong(sleepMs, 2 * sleepMs + 1))));
+            sleepMs = Math.min(sleepMs * 2, MAX_RETRY_SLEEP_MS);
+            acquired = attempt();
+        }
+
+        recordAcquire(acquired, System.nanoTime() - start);
+        return acquired;
+    }
+
+    /**
+     * Releases the lock if it is still held by this owner.
+     *
+     * @return whether the lock was still held, {@code false} as well when it was not acquired or already lost.
+     */
+    public boolean unlock() {
+        byte[] current = token;
+        if (current == null) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        stopRenewal();
+        token = null;
+        fencingToken = -1;
+
+        Long released = registry.execute(connection ->
+                connection.eval(RELEASE_SCRIPT, ReturnType.INTEGER, 1, key, current));
+        JodisLockMetrics metrics = registry.getMetrics();
+        if (metrics != null) {
+            metrics.recordRelease(System.nanoTime() - start);
+            if (released == null || released == 0) {
+                metrics.recordLost();
+            }
+        }
+        return released != null && released > 0;
+    }
+
+    /**
+     * @return whether this owner holds the lock, as far as it knows; a lease lost since the last renewal is not seen.
+     */
+    public boolean isHeld() {
+        return token != null;
+    }
+
+    /**
+     * @return the fencing token of the current acquisition, {@code -1} when not held or fencing is disabled.
+     */
+    public long getFencingToken() {
+        return fencingToken;
+    }
+
+    private boolean attempt() {
+        byte[] candidate = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+        long leaseMs = registry.getLeaseMs();
+        Long reply = registry.execute(connection -> connection.eval(ACQUIRE_SCRIPT, ReturnType.INTEGER, 2, key,
+                fenceKey, candidate, JedisConverters.toBytes(leaseMs),
+                JedisConverters.toBytes(registry.isFencing() ? "1" : "0")));
+
+        if (reply == null || reply < 0) {
+            JodisLockMetrics metrics = registry.getMetrics();
+            if (metrics != null) {
+                metrics.recordContention();
+            }
+            return false;
+        }
+
+        token = candidate;
+        fencingToken = registry.isFencing() ? reply : -1;
+        scheduleRenewal(candidate, leaseMs);
+        return true;
+    }
+
+    private synchronized void scheduleRenewal(byte[] owner, long leaseMs) {
+        long period = Math.max(1, leaseMs / 3);
+        renewal = registry.renewalScheduler().scheduleAtFixedRate(() -> renew(owner, leaseMs),
+                period, period, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void stopRenewal() {
+        if (renewal != null) {
+            renewal.cancel(false);
+            renewal = null;
+        }
+    }
+
+    private void renew(byte[] owner, long leaseMs) {
+        if (token != owner) {
+            return;
+        }
+
+        try {
+            Long renewed = registry.execute(connection -> connection.eval(RENEW_SCRIPT, ReturnType.INTEGER, 1, key,
+                    owner, JedisConverters.toBytes(leaseMs)));
+            if ((renewed == null || renewed == 0) && token == owner) {
+                log.warn("Lock {} was lost before it was released", name);
+                stopRenewal();
+                token = null;
+                fencingToken = -1;
+                JodisLockMetrics metrics = registry.getMetrics();
+                if (metrics != null) {
+                    metrics.recordLost();
+                }
+            }
+        } catch (Exception ex) {
+            // retried on the next period, the lease outlives two failed renewals
+            log.warn("Cannot renew lock {}", name, ex);
+        }
+    }
+
+    private void recordAcquire(boolean acquired, long nanos) {
+        JodisLockMetrics metrics = registry.getMetrics();
+        if (metrics != null) {
+            metrics.recordAcquire(acquired, nanos);
+        }
+    }
+}
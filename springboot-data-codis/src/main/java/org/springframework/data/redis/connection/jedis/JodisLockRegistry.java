@@ -0,0 +1,78 @@
+package org.springframework.data.redis.connection.jedis;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.JodisLockMetrics;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+
+/**
+ * Hands out {@link JodisLock}s and renews the leases of the held ones on a single shared scheduler thread.
+ */
+public class JodisLockRegistry implements DisposableBean {
+
+    private final RedisConnectionFactory connectionFactory;
+    @Getter
+    private final JodisLockMetrics metrics;
+
+    /**
+     * Time after which a lock whose owner stopped renewing it is released by Codis.
+     */
+    @Getter
+    @Setter
+    private long leaseMs = 30000;
+    /**
+     * Whether acquiring a lock also takes a fencing token.
+     */
+    @Getter
+    @Setter
+    private boolean fencing;
+
+    private volatile ScheduledExecutorService renewalScheduler;
+
+    public JodisLockRegistry(RedisConnectionFactory connectionFactory, JodisLockMetrics metrics) {
+        Assert.notNull(connectionFactory, "Connection factory must not be null!");
+        this.connectionFactory = connectionFactory;
+        this.metrics = metrics;
+    }
+
+    public JodisLock getLock(String name) {
+        return new JodisLock(this, name);
+    }
+
+    @Override
+    public void destroy() {
+        if (renewalScheduler != null) {
+            renewalScheduler.shutdownNow();
+        }
+    }
+
+    ScheduledExecutorService renewalScheduler() {
+        if (renewalScheduler == null) {
+            synchronized (this) {
+                if (renewalScheduler == null) {
+                    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("jodis-lock-renewal-");
+                    threadFactory.setDaemon(true);
+                    renewalScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+                }
+            }
+        }
+        return renewalScheduler;
+    }
+
+    <T> T execute(Function<RedisConnection, T> action) {
+        RedisConnection connection = connectionFactory.getConnection();
+        try {
+            return action.apply(connection);
+        } finally {
+            connection.close();
+        }
+    }
+}
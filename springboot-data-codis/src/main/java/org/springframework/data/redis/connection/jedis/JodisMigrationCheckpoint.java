@@ -0,0 +1,55 @@
+package org.springframework.data.redis.connection.jedis;
+
+import org.springframework.data.redis.connection.CodisSlotHashUtil;
+import org.springframework.util.Assert;
+
+import java.util.Base64;
+import java.util.BitSet;
+
+/**
+ * The Codis slots a {@link JodisKeyMigrator} run has finished, so that an interrupted run can be resumed.
+ * <p>
+ * Persist {@link #serialize()} from the migrator's checkpoint listener and {@link #parse(String)} it back to resume.
+ */
+public class JodisMigrationCheckpoint {
+
+    private final BitSet completedSlots;
+
+    public JodisMigrationCheckpoint() {
+        this(new BitSet(CodisSlotHashUtil.SLOT_COUNT));
+    }
+
+    private JodisMigrationCheckpoint(BitSet completedSlots) {
+        this.completedSlots = completedSlots;
+    }
+
+    public static JodisMigrationCheckpoint parse(String serialized) {
+        Assert.notNull(serialized, "Serialized checkpoint must not be null!");
+        return new JodisMigrationCheckpoint(BitSet.valueOf(Base64.getDecoder().decode(serialized)));
+    }
+
+    public synchronized boolean isCompleted(int slot) {
+        return completedSlots.get(slot);
+    }
+
+    public synchronized void markCompleted(int slot) {
+        completedSlots.set(slot);
+    }
+
+    public synchronized int getCompletedCount() {
+        return completedSlots.cardinality();
+    }
+
+    public synchronized boolean isFinished() {
+        return completedSlots.cardinality() == CodisSlotHashUtil.SLOT_COUNT;
+    }
+
+    public synchronized String serialize() {
+        return Base64.getEncoder().encodeToString(completedSlots.toByteArray());
+    }
+
+    @Override
+    public String toString() {
+        return "JodisMigrationCheckpoint[" + getCompletedCount() + "/" + CodisSlotHashUtil.SLOT_COUNT + " slots]";
+    }
+}
@@ -0,0 +1,289 @@
+package org.springframework.data.redis.connection.jedis;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Work queue on a Codis list where dequeued items are moved into a processing list of the worker until they are
+ * acknowledged, so the items of a crashed worker can be {@link #recover(String) recovered}.
+ * <p>
+ * The queue and all processing lists share the hash tag {@code {name}} and therefore one Codis slot, which lets
+ * {@link #dequeue(String, int)} move a whole batch with a single script call. Delivery is at least once: a worker
+ * dying after handling an item but before acknowledging it gets the item delivered again.
+ */
+@Slf4j
+public class JodisReliableQueue {
+
+    private static final byte[] DEQUEUE_SCRIPT = ("local items = redis.call('LRANGE', KEYS[1], -ARGV[1], -1)\n"
+            + "if #items == 0 then return items end\n"
+            + "redis.call('LTRIM', KEYS[1], 0, -#items - 1)\n"
+            + "redis.call('LPUSH', KEYS[2], unpack(items))\n"
+            + "local oldestFirst = {}\n"
+            + "for i = #items, 1, -1 do oldestFirst[#oldestFirst + 1] = items[i] end\n"
+            + "return oldestFirst").getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] NACK_SCRIPT = ("local requeued = 0\n"
+            + "for i = 1, #ARGV do\n"
+            + "  if redis.call('LREM', KEYS[2], 1, ARGV[i]) > 0 then\n"
+            + "    redis.call('RPUSH', KEYS[1], ARGV[i])\n"
+            + "    requeued = requeued + 1\n"
+            + "  end\n"
+            + "end\n"
+            + "return requeued").getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] RECOVER_SCRIPT = ("local recovered = 0\n"
+            + "local item = redis.call('RPOP', KEYS[2])\n"
+            + "while item do\n"
+            + "  redis.call('RPUSH', KEYS[1], item)\n"
+            + "  recovered = recovered + 1\n"
+            + "  item = redis.call('RPOP', KEYS[2])\n"
+            + "end\n"
+            + "return recovered").getBytes(StandardCharsets.UTF_8);
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private final RedisConnectionFactory connectionFactory;
+    @Getter
+    private final String name;
+    private final byte[] queueKey;
+
+    /**
+     * Items taken per round trip by consumer threads.
+     */
+    @Setter
+    private int batchSize = 100;
+    /**
+     * Seconds a consumer thread blocks on an empty queue before checking whether it was stopped.
+     */
+    @Setter
+    private int blockTimeoutSeconds = 1;
+
+    private ExecutorService consumers;
+    private List<String> consumerWorkerIds = Collections.emptyList();
+    private volatile boolean running;
+
+    public JodisReliableQueue(RedisConnectionFactory connectionFactory, String name) {
+        Assert.notNull(connectionFactory, "Connection factory must not be null!");
+        Assert.hasText(name, "Queue name must not be empty!");
+        this.connectionFactory = connectionFactory;
+        this.name = name;
+        this.queueKey = key("queue");
+    }
+
+    public Long enqueue(byte[]... items) {
+        Assert.notEmpty(items, "Items must not be empty!");
+        return execute(connection -> connection.lPush(queueKey, items));
+    }
+
+    /**
+     * Moves up to {@code count} of the oldest items into the processing list of {@code workerId}.
+     *
+     * @return the items, oldest first, empty when the queue is empty.
+     */
+    public List<byte[]> dequeue(String workerId, int count) {
+        Assert.isTrue(count > 0 && count <= MAX_BATCH_SIZE, "Count must be between 1 and " + MAX_BATCH_SIZE);
+        byte[] processingKey = processingKey(workerId);
+        List<byte[]> items = execute(connection -> connection.eval(DEQUEUE_SCRIPT, ReturnType.MULTI, 2, queueKey,
+                processingKey, JedisConverters.toBytes(count)));
+        return items != null ? items : Collections.emptyList();
+    }
+
+    /**
+     * Waits up to {@code timeoutSeconds} for one item and moves it into the processing list of {@code workerId}.
+     *
+     * @return the item, {@code null} on timeout.
+     */
+    public byte[] dequeueBlocking(String workerId, int timeoutSeconds) {
+        byte[] processingKey = processingKey(workerId);
+        return execute(connection -> connection.bRPopLPush(timeoutSeconds, queueKey, processingKey));
+    }
+
+    /**
+     * Removes handled items from the processing list of {@code workerId}, in one pipeline.
+     */
+    public void ack(String workerId, List<byte[]> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        byte[] processingKey = processingKey(workerId);
+        execute(connection -> {
+            connection.openPipeline();
+            for (byte[] item : items) {
+                connection.lRem(processingKey, 1, item);
+            }
+            return connection.closePipeline();
+        });
+    }
+
+    /**
+     * Puts items of the processing list of {@code workerId} back at the head of the queue, to be dequeued next.
+     *
+     * @return the number of items put back.
+     */
+    public Long nack(String workerId, List<byte[]> items) {
+        if (items.isEmpty()) {
+            return 0L;
+        }
+
+        byte[][] keysAndArgs = new byte[items.size() + 2][];
+        keysAndArgs[0] = queueKey;
+        keysAndArgs[1] = processingKey(workerId);
+        for (int i = 0; i < items.size(); i++) {
+            keysAndArgs[i + 2] = items.get(i);
+        }
+
+        return execute(connection -> connection.eval(NACK_SCRIPT, ReturnType.INTEGER, 2, keysAndArgs));
+    }
+
+    /**
+     * Puts all unacknowledged items of {@code workerId} back at the head of the queue, e.g. when a worker restarts.
+     *
+     * @return the number of items put back.
+     */
+    public Long recover(String workerId) {
+        byte[] processingKey = processingKey(workerId);
+        return execute(connection -> connection.eval(RECOVER_SCRIPT, ReturnType.INTEGER, 2, queueKey, processingKey));
+    }
+
+    public Long size() {
+        return execute(connection -> connection.lLen(queueKey));
+    }
+
+    /**
+     * Starts {@code threads} consumers named {@code consumerId-0} to {@code consumerId-(threads - 1)}. Each first
+     * recovers what it left unacknowledged in a previous run, so {@code consumerId} should be stable per instance.
+     */
+    public synchronized void start(String consumerId, int threads, JobHandler handler) {
+        Assert.hasText(consumerId, "Consumer id must not be empty!");
+        Assert.isTrue(threads > 0, "Threads must be positive!");
+        Assert.notNull(handler, "Handler must not be null!");
+        Assert.state(!running, "Queue " + name + " is already consumed");
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("jodis-queue-" + name + "-");
+        threadFactory.setDaemon(true);
+        consumers = Executors.newFixedThreadPool(threads, threadFactory);
+        running = true;
+
+        List<String> workerIds = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            String workerId = consumerId + "-" + i;
+            workerIds.add(workerId);
+            consumers.execute(() -> consume(workerId, handler));
+        }
+        consumerWorkerIds = workerIds;
+    }
+
+    /**
+     * Stops the consumers, waiting up to {@code timeoutMs} for the batches in progress, and puts the items they did
+     * not get to back into the queue.
+     */
+    public synchronized void stop(long timeoutMs) {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        consumers.shutdown();
+        try {
+            if (!consumers.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("Consumers of queue {} did not stop in {} ms", name, timeoutMs);
+                return;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        for (String workerId : consumerWorkerIds) {
+            recover(workerId);
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void consume(String workerId, JobHandler handler) {
+        try {
+            recover(workerId);
+        } catch (Exception ex) {
+            log.warn("Cannot recover unacknowledged items of {}", workerId, ex);
+        }
+
+        while (running) {
+            try {
+                List<byte[]> items = dequeue(workerId, batchSize);
+                if (items.isEmpty()) {
+                    byte[] item = dequeueBlocking(workerId, blockTimeoutSeconds);
+                    if (item == null) {
+                        continue;
+                    }
+                    items = Collections.singletonList(item);
+                }
+
+                List<byte[]> handled = new ArrayList<>(items.size());
+                List<byte[]> failed = new ArrayList<>();
+                for (byte[] item : items) {
+                    if (!running) {
+                        break;
+                    }
+                    try {
+                        handler.handle(item);
+                        handled.add(item);
+                    } catch (Exception ex) {
+                        log.warn("Handler of queue {} failed, putting the item back", name, ex);
+                        failed.add(item);
+                    }
+                }
+                ack(workerId, handled);
+                nack(workerId, failed);
+            } catch (Exception ex) {
+                log.warn("Consumer {} of queue {} failed", workerId, name, ex);
+                try {
+                    TimeUnit.SECONDS.sleep(1);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private <T> T execute(Function<RedisConnection, T> action) {
+        RedisConnection connection = connectionFactory.getConnection();
+        try {
+            return action.apply(connection);
+        } finally {
+            connection.close();
+        }
+    }
+
+    private byte[] processingKey(String workerId) {
+        Assert.hasText(workerId, "Worker id must not be empty!");
+        return key("processing:" + workerId);
+    }
+
+    private byte[] key(String suffix) {
+        return ("{" + name + "}:" + suffix).getBytes(StandardCharsets.UTF_8);
+    }
+
+    public interface JobHandler {
+        void handle(byte[] item) throws Exception;
+    }
+}
@@ -0,0 +1,50 @@
+package org.springframework.data.redis.connection.jedis;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.data.redis.connection.CodisSlotHashUtil;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Client-side registry of Lua scripts, shared by the connections of one factory.
+ * <p>
+ * Keeps each script body by its SHA1 so {@code EVALSHA} can fall back to {@code EVAL}, and remembers
+ * per Codis slot which scripts have already been sent, so later calls go out as {@code EVALSHA}.
+ * Scripts are cached on the redis group owning the slot rather than on the proxy, hence the slot granularity.
+ */
+public class JodisScriptCache {
+
+    private final ConcurrentMap<String, byte[]> scripts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicLongArray> loadedSlots = new ConcurrentHashMap<>();
+
+    public String register(byte[] script) {
+        String sha = DigestUtils.sha1Hex(script);
+        scripts.putIfAbsent(sha, script);
+        return sha;
+    }
+
+    public byte[] getScript(String sha) {
+        return scripts.get(sha);
+    }
+
+    public boolean isLoaded(String sha, int slot) {
+        AtomicLongArray slots = loadedSlots.get(sha);
+        return slots != null && (slots.get(slot >>> 6) & (1L << slot)) != 0;
+    }
+
+    public void markLoaded(String sha, int slot) {
+        AtomicLongArray slots = loadedSlots.computeIfAbsent(sha, k -> new AtomicLongArray(CodisSlotHashUtil.SLOT_COUNT / 64));
+        long bit = 1L << slot;
+        long current;
+        do {
+            current = slots.get(slot >>> 6);
+        } while ((current & bit) == 0 && !slots.compareAndSet(slot >>> 6, current, current | bit));
+    }
+
+    public void clear() {
+        scripts.clear();
+        loadedSlots.clear();
+    }
+}
@@ -0,0 +1,176 @@
+package org.springframework.data.redis.connection.jedis;
+
+import org.springframework.data.redis.connection.CodisSlotHashUtil;
+import org.springframework.data.redis.core.Cursor;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link Cursor} over the whole Codis keyspace, walking all slots with {@code SLOTSSCAN}.
+ * <p>
+ * With a prefetch executor up to {@code parallelism} pages of different slots are fetched ahead while
+ * the caller consumes the current page. Without one, pages are loaded on demand in the caller's thread.
+ * The {@code MATCH} pattern is applied on the client.
+ */
+class JodisSlotScanCursor implements Cursor<byte[]> {
+
+    private final SlotPageLoader loader;
+    private final byte[] pattern;
+    private final Executor prefetchExecutor;
+    private final int parallelism;
+
+    private final Deque<PendingPage> pending = new ArrayDeque<>();
+    private int nextSlot;
+    private Iterator<byte[]> page = Collections.emptyIterator();
+    private byte[] nextKey;
+    private long cursorId;
+    private long position;
+    private boolean closed;
+
+    JodisSlotScanCursor(SlotPageLoader loader, byte[] pattern, Executor prefetchExecutor, int parallelism) {
+        this.loader = loader;
+        this.pattern = pattern;
+        this.prefetchExecutor = prefetchExecutor;
+        this.parallelism = prefetchExecutor != null ? Math.max(parallelism, 1) : 1;
+    }
+
+    @Override
+    public JodisSlotScanCursor open() {
+        fill();
+        return this;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (nextKey == null && !closed) {
+            if (page.hasNext()) {
+                byte[] key = page.next();
+                if (pattern == null || KeyPatternMatcher.matches(pattern, key)) {
+                    nextKey = key;
+                }
+                continue;
+            }
+
+            PendingPage next = pending.poll();
+            if (next == null) {
+                return false;
+            }
+
+            SlotPage loaded = next.get();
+            cursorId = loaded.cursor;
+            if (loaded.cursor != 0) {
+                schedule(loaded.slot, loaded.cursor);
+            }
+            fill();
+            page = loaded.keys.iterator();
+        }
+        return nextKey != null;
+    }
+
+    @Override
+    public byte[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more keys in scan cursor");
+        }
+
+        byte[] key = nextKey;
+        nextKey = null;
+        position++;
+        return key;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        nextKey = null;
+        pending.forEach(PendingPage::cancel);
+        pending.clear();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public long getCursorId() {
+        return cursorId;
+    }
+
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    private void fill() {
+        while (pending.size() < parallelism && nextSlot < CodisSlotHashUtil.SLOT_COUNT) {
+            schedule(nextSlot++, 0);
+        }
+    }
+
+    private void schedule(int slot, long cursor) {
+        if (prefetchExecutor == null) {
+            pending.add(new PendingPage(slot, cursor, null));
+        } else {
+            pending.add(new PendingPage(slot, cursor,
+                    CompletableFuture.supplyAsync(() -> loader.load(slot, cursor), prefetchExecutor)));
+        }
+    }
+
+    interface SlotPageLoader {
+        SlotPage load(int slot, long cursor);
+    }
+
+    static class SlotPage {
+        private final int slot;
+        private final long cursor;
+        private final List<byte[]> keys;
+
+        SlotPage(int slot, long cursor, List<byte[]> keys) {
+            this.slot = slot;
+            this.cursor = cursor;
+            this.keys = keys;
+        }
+    }
+
+    private class PendingPage {
+        private final int slot;
+        private final long cursor;
+        private final CompletableFuture<SlotPage> future;
+
+        PendingPage(int slot, long cursor, CompletableFuture<SlotPage> future) {
+            this.slot = slot;
+            this.cursor = cursor;
+            this.future = future;
+        }
+
+        SlotPage get() {
+            if (future == null) {
+                return loader.load(slot, cursor);
+            }
+
+            try {
+                return future.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+                throw ex;
+            }
+        }
+
+        void cancel() {
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+}
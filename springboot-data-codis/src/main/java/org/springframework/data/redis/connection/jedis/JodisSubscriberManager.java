@@ -0,0 +1,156 @@
+package org.springframework.data.redis.connection.jedis;
+
+import io.codis.jodis.JedisResourcePool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.CodisProxyDirectory;
+import org.springframework.data.redis.connection.JodisConfiguration;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.StringUtils;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Protocol;
+
+import java.io.Closeable;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the subscriber connections of {@link JodisConnection}s outside of the resource pool.
+ * <p>
+ * Each subscription holds one long-lived connection to a proxy picked by the pool, and is moved to another proxy when
+ * ZooKeeper reports its proxy going away. Messages are handed to the listeners on a bounded executor, running on
+ * the subscriber thread when it is full so a slow listener backs up the connection instead of the heap.
+ */
+@Slf4j
+public class JodisSubscriberManager implements Closeable {
+
+    private final JedisResourcePool resourcePool;
+    private final JodisConfiguration zookeeperConfig;
+    private final int dispatchThreads;
+    private final int queueCapacity;
+    private final Set<JodisSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private volatile ExecutorService dispatchExecutor;
+    private volatile CodisProxyDirectory proxyDirectory;
+    private volatile boolean closed;
+
+    public JodisSubscriberManager(JedisResourcePool resourcePool, JodisConfiguration zookeeperConfig,
+                                  int dispatchThreads, int queueCapacity) {
+        this.resourcePool = resourcePool;
+        this.zookeeperConfig = zookeeperConfig;
+        this.dispatchThreads = dispatchThreads;
+        this.queueCapacity = queueCapacity;
+    }
+
+    public JodisSubscription subscribe(MessageListener listener, byte[][] channels, byte[][] patterns) {
+        if (closed) {
+            throw new IllegalStateException("Subscriber manager is closed");
+        }
+
+        JodisSubscription subscription = new JodisSubscription(this, listener, channels, patterns);
+        subscriptions.add(subscription);
+        watchProxies();
+        subscription.start();
+        return subscription;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+
+        for (JodisSubscription subscription : subscriptions) {
+            subscription.close();
+        }
+
+        if (proxyDirectory != null) {
+            proxyDirectory.close();
+        }
+        if (dispatchExecutor != null) {
+            dispatchExecutor.shutdown();
+        }
+    }
+
+    int getSubscriptionCount() {
+        return subscriptions.size();
+    }
+
+    void unregister(JodisSubscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    /**
+     * Opens a connection outside of the pool to a proxy chosen by the pool, without a read timeout.
+     */
+    Jedis connect() {
+        String host;
+        int port;
+        try (Jedis pooled = resourcePool.getResource()) {
+            host = pooled.getClient().getHost();
+            port = pooled.getClient().getPort();
+        }
+
+        int connectionTimeout = zookeeperConfig != null ? zookeeperConfig.getConnectionTimeoutMs() : Protocol.DEFAULT_TIMEOUT;
+        Jedis jedis = new Jedis(host, port, connectionTimeout, 0);
+        try {
+            jedis.connect();
+            if (zookeeperConfig != null && StringUtils.hasLength(zookeeperConfig.getPassword())) {
+                jedis.auth(zookeeperConfig.getPassword());
+            }
+        } catch (RuntimeException ex) {
+            jedis.close();
+            throw ex;
+        }
+        return jedis;
+    }
+
+    void dispatch(Runnable task) {
+        dispatchExecutor().execute(task);
+    }
+
+    private ExecutorService dispatchExecutor() {
+        if (dispatchExecutor == null) {
+            synchronized (this) {
+                if (dispatchExecutor == null) {
+                    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("jodis-pubsub-");
+                    threadFactory.setDaemon(true);
+
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(dispatchThreads, dispatchThreads,
+                            60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity), threadFactory,
+                            new ThreadPoolExecutor.CallerRunsPolicy());
+                    executor.allowCoreThreadTimeOut(true);
+                    dispatchExecutor = executor;
+                }
+            }
+        }
+        return dispatchExecutor;
+    }
+
+    private void watchProxies() {
+        if (zookeeperConfig == null || proxyDirectory != null) {
+            return;
+        }
+
+        synchronized (this) {
+            if (proxyDirectory == null && !closed) {
+                proxyDirectory = new CodisProxyDirectory(zookeeperConfig, this::onProxiesChanged);
+            }
+        }
+    }
+
+    private void onProxiesChanged(List<String> proxies) {
+        Set<String> online = new HashSet<>(proxies);
+        for (JodisSubscription subscription : subscriptions) {
+            String proxy = subscription.getProxy();
+            if (proxy != null && !online.contains(proxy)) {
+                log.info("Proxy {} went away, resubscribing", proxy);
+                subscription.reconnect();
+            }
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package org.springframework.data.redis.connection.jedis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.util.AbstractSubscription;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import redis.clients.jedis.BinaryJedisPubSub;
+import redis.clients.jedis.Jedis;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Subscription on a dedicated connection managed by {@link JodisSubscriberManager}.
+ * <p>
+ * Unlike Jedis, subscribing does not block the caller: a subscriber thread owns the connection and subscribes again
+ * to all current channels and patterns whenever the connection has to be re-established.
+ * <p>
+ * The subscription keeps its own channels and patterns for that, updated under its monitor before a command is
+ * sent, so a resync running concurrently with a (un)subscribe always sees it.
+ */
+@Slf4j
+public class JodisSubscription extends AbstractSubscription {
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final long MAX_BACKOFF_MS = 5000;
+
+    private final JodisSubscriberManager manager;
+    private final Thread thread;
+
+    private volatile boolean closed;
+    private volatile Jedis jedis;
+    private volatile DispatchingPubSub pubSub;
+
+    // guarded by this
+    private final Set<ByteArrayWrapper> subscribedChannels = new LinkedHashSet<>();
+    private final Set<ByteArrayWrapper> subscribedPatterns = new LinkedHashSet<>();
+
+    JodisSubscription(JodisSubscriberManager manager, MessageListener listener, byte[][] channels, byte[][] patterns) {
+        super(listener, channels, patterns);
+        add(subscribedChannels, channels);
+        add(subscribedPatterns, patterns);
+        this.manager = manager;
+        this.thread = new Thread(this::run, "jodis-subscriber-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * @return the {@code host:port} of the proxy currently subscribed to, {@code null} while not connected.
+     */
+    String getProxy() {
+        Jedis current = jedis;
+        return current != null ? current.getClient().getHost() + ":" + current.getClient().getPort() : null;
+    }
+
+    /**
+     * Drops the current connection, the subscriber thread subscribes again on another one.
+     */
+    void reconnect() {
+        Jedis current = jedis;
+        if (current != null) {
+            current.disconnect();
+        }
+    }
+
+    @Override
+    protected synchronized void doSubscribe(byte[]... channels) {
+        add(subscribedChannels, channels);
+        DispatchingPubSub current = pubSub;
+        if (current != null && current.isSubscribed()) {
+            current.subscribe(channels);
+        }
+    }
+
+    @Override
+    protected synchronized void doUnsubscribe(boolean all, byte[]... channels) {
+        remove(subscribedChannels, all, channels);
+        DispatchingPubSub current = pubSub;
+        if (current != null && current.isSubscribed()) {
+            if (all) {
+                current.unsubscribe();
+            } else {
+                current.unsubscribe(channels);
+            }
+        }
+    }
+
+    @Override
+    protected synchronized void doPsubscribe(byte[]... patterns) {
+        add(subscribedPatterns, patterns);
+        DispatchingPubSub current = pubSub;
+        if (current != null && current.isSubscribed()) {
+            current.psubscribe(patterns);
+        }
+    }
+
+    @Override
+    protected synchronized void doPUnsubscribe(boolean all, byte[]... patterns) {
+        remove(subscribedPatterns, all, patterns);
+        DispatchingPubSub current = pubSub;
+        if (current != null && current.isSubscribed()) {
+            if (all) {
+                current.punsubscribe();
+            } else {
+                current.punsubscribe(patterns);
+            }
+        }
+    }
+
+    @Override
+    protected void doClose() {
+        closed = true;
+        manager.unregister(this);
+        reconnect();
+    }
+
+    private void run() {
+        long backoffMs = 0;
+        while (!closed) {
+            Jedis current = null;
+            try {
+                if (backoffMs > 0) {
+                    TimeUnit.MILLISECONDS.sleep(backoffMs);
+                }
+
+                current = manager.connect();
+                DispatchingPubSub currentPubSub = new DispatchingPubSub();
+                byte[][] channels;
+                byte[][] patterns;
+                synchronized (this) {
+                    if (closed) {
+                        break;
+                    }
+                    jedis = current;
+                    pubSub = currentPubSub;
+                    channels = toArray(subscribedChannels);
+                    patterns = toArray(subscribedPatterns);
+                }
+
+                backoffMs = 0;
+                if (channels.length > 0) {
+                    current.subscribe(currentPubSub, channels);
+                } else if (patterns.length > 0) {
+                    current.psubscribe(currentPubSub, patterns);
+                } else {
+                    break;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception ex) {
+                if (closed) {
+                    break;
+                }
+                backoffMs = Math.min(MAX_BACKOFF_MS, Math.max(100, backoffMs * 2));
+                log.warn("Subscriber connection lost, resubscribing in {} ms", backoffMs, ex);
+            } finally {
+                jedis = null;
+                pubSub = null;
+                if (current != null) {
+                    current.close();
+                }
+            }
+        }
+    }
+
+    private static byte[][] toArray(Collection<ByteArrayWrapper> values) {
+        byte[][] array = new byte[values.size()][];
+        int i = 0;
+        for (ByteArrayWrapper value : values) {
+            array[i++] = value.getArray();
+        }
+        return array;
+    }
+
+    private static void add(Set<ByteArrayWrapper> values, byte[]... added) {
+        if (added != null) {
+            for (byte[] value : added) {
+                values.add(new ByteArrayWrapper(value));
+            }
+        }
+    }
+
+    private static void remove(Set<ByteArrayWrapper> values, boolean all, byte[]... removed) {
+        if (all) {
+            values.clear();
+        } else if (removed != null) {
+            for (byte[] value : removed) {
+                values.remove(new ByteArrayWrapper(value));
+            }
+        }
+    }
+
+    private class DispatchingPubSub extends BinaryJedisPubSub {
+
+        private boolean synced;
+
+        @Override
+        public void onMessage(byte[] channel, byte[] message) {
+            dispatch(channel, message, null);
+        }
+
+        @Override
+        public void onPMessage(byte[] pattern, byte[] channel, byte[] message) {
+            dispatch(channel, message, pattern);
+        }
+
+        @Override
+        public void onSubscribe(byte[] channel, int subscribedChannels) {
+            sync();
+        }
+
+        @Override
+        public void onPSubscribe(byte[] pattern, int subscribedChannels) {
+            sync();
+        }
+
+        /**
+         * Catches up with everything subscribed while the connection was being established, including the patterns
+         * when it was opened by a channel subscription.
+         */
+        private void sync() {
+            if (synced) {
+                return;
+            }
+            synced = true;
+
+            synchronized (JodisSubscription.this) {
+                byte[][] channels = toArray(subscribedChannels);
+                byte[][] patterns = toArray(subscribedPatterns);
+                if (channels.length > 0) {
+                    subscribe(channels);
+                }
+                if (patterns.length > 0) {
+                    psubscribe(patterns);
+                }
+            }
+        }
+
+        private void dispatch(byte[] channel, byte[] message, byte[] pattern) {
+            MessageListener listener = getListener();
+            manager.dispatch(() -> {
+                try {
+                    listener.onMessage(new DefaultMessage(channel, message), pattern);
+                } catch (Exception ex) {
+                    log.warn("Message listener failed", ex);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.springframework.data.redis.connection.jedis;
+
+/**
+ * Glob style matching of keys as done by Redis for {@code KEYS} and {@code SCAN ... MATCH},
+ * supporting {@code *}, {@code ?}, {@code [...]} classes and {@code \} escapes.
+ */
+final class KeyPatternMatcher {
+
+    private KeyPatternMatcher() {
+    }
+
+    static boolean matches(byte[] pattern, byte[] key) {
+        return matches(pattern, 0, key, 0);
+    }
+
+    private static boolean matches(byte[] pattern, int p, byte[] key, int k) {
+        while (p < pattern.length) {
+            switch (pattern[p]) {
+                case '*':
+                    while (p + 1 < pattern.length && pattern[p + 1] == '*') {
+                        p++;
+                    }
+                    if (p + 1 == pattern.length) {
+                        return true;
+                    }
+                    for (; k <= key.length; k++) {
+                        if (matches(pattern, p + 1, key, k)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                case '?':
+                    if (k == key.length) {
+                        return false;
+                    }
+                    k++;
+                    break;
+                case '[':
+                    if (k == key.length) {
+                        return false;
+                    }
+                    p++;
+                    boolean not = p < pattern.length && pattern[p] == '^';
+                    if (not) {
+                        p++;
+                    }
+
+                    boolean match = false;
+                    while (true) {
+                        if (p >= pattern.length) {
+                            p--;
+                            break;
+                        }
+                        if (pattern[p] == '\\' && pattern.length - p >= 2) {
+                            p++;
+                            if (pattern[p] == key[k]) {
+                                match = true;
+                            }
+                        } else if (pattern[p] == ']') {
+                            break;
+                        } else if (pattern.length - p >= 3 && pattern[p + 1] == '-') {
+                            int start = pattern[p] & 0xff;
+                            int end = pattern[p + 2] & 0xff;
+                            int c = key[k] & 0xff;
+                            if (start > end) {
+                                int swap = start;
+                                start = end;
+                                end = swap;
+                            }
+                            p += 2;
+                            if (c >= start && c <= end) {
+                                match = true;
+                            }
+                        } else if (pattern[p] == key[k]) {
+                            match = true;
+                        }
+                        p++;
+                    }
+
+                    if (not == match) {
+                        return false;
+                    }
+                    k++;
+                    break;
+                default:
+                    if (pattern[p] == '\\' && pattern.length - p >= 2) {
+                        p++;
+                    }
+                    if (k == key.length || pattern[p] != key[k]) {
+                        return false;
+                    }
+                    k++;
+                    break;
+            }
+
+            p++;
+            if (k == key.length) {
+                while (p < pattern.length && pattern[p] == '*') {
+                    p++;
+                }
+                break;
+            }
+        }
+        return p == pattern.length && k == key.length;
+    }
+}
@@ -0,0 +1,66 @@
+package org.springframework.data.redis.connection.jedis;
+
+import org.springframework.data.redis.core.ScanCursor;
+import org.springframework.data.redis.core.ScanIteration;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link ScanCursor} that, given a prefetch executor, requests the next page as soon as the current one
+ * arrives so it is fetched while the caller consumes the current page. Without an executor it behaves
+ * like a plain {@link ScanCursor}.
+ */
+abstract class PrefetchingScanCursor<T> extends ScanCursor<T> {
+
+    private final Executor prefetchExecutor;
+
+    private CompletableFuture<ScanIteration<T>> prefetched;
+    private long prefetchedCursorId;
+
+    PrefetchingScanCursor(ScanOptions options, Executor prefetchExecutor) {
+        super(options);
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    protected abstract ScanIteration<T> doScanPage(long cursorId, ScanOptions options);
+
+    @Override
+    protected ScanIteration<T> doScan(long cursorId, ScanOptions options) {
+        ScanIteration<T> result;
+        if (prefetched != null && prefetchedCursorId == cursorId) {
+            result = join(prefetched);
+        } else {
+            result = doScanPage(cursorId, options);
+        }
+        prefetched = null;
+
+        if (prefetchExecutor != null && result.getCursorId() != 0) {
+            long nextCursorId = result.getCursorId();
+            prefetchedCursorId = nextCursorId;
+            prefetched = CompletableFuture.supplyAsync(() -> doScanPage(nextCursorId, options), prefetchExecutor);
+        }
+        return result;
+    }
+
+    @Override
+    protected void doClose() {
+        if (prefetched != null) {
+            prefetched.cancel(false);
+            prefetched = null;
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+}
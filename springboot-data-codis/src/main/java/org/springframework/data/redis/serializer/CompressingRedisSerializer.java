@@ -0,0 +1,115 @@
+package org.springframework.data.redis.serializer;
+
+import lombok.Getter;
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+
+/**
+ * {@link RedisSerializer} decorator compressing the values of its delegate that are at least {@code threshold}
+ * bytes long.
+ * <p>
+ * A compressed value is written as {@code 0xC0}, the codec id, the uncompressed length as a big-endian int and
+ * the compressed bytes. {@code 0xC0} never starts valid UTF-8 nor JDK serialization, so smaller values are
+ * written untouched; the rare value that does start with it is escaped with a two-byte {@code 0xC0 0x00}
+ * header. Values compressing to no less than their size are stored uncompressed. Decoding understands every
+ * {@link CompressionCodec}, so the codec can be changed without rewriting existing values.
+ */
+public class CompressingRedisSerializer<T> implements RedisSerializer<T> {
+
+    static final byte MAGIC = (byte) 0xC0;
+    static final byte UNCOMPRESSED = 0;
+
+    private static final int HEADER_LENGTH = 6;
+    // the Redis string limit, guards against allocating for a corrupt length
+    private static final int MAX_LENGTH = 512 * 1024 * 1024;
+
+    @Getter
+    private final RedisSerializer<T> delegate;
+    @Getter
+    private final CompressionCodec codec;
+    @Getter
+    private final int threshold;
+
+    public CompressingRedisSerializer(RedisSerializer<T> delegate, CompressionCodec codec, int threshold) {
+        Assert.notNull(delegate, "Delegate serializer must not be null");
+        Assert.notNull(codec, "Codec must not be null");
+        // fail on startup rather than on the first value above the threshold
+        Assert.state(codec.isAvailable(), "Codec " + codec + " is not on the classpath, add org.lz4:lz4-java or use "
+                + CompressionCodec.DEFLATE + "!");
+        this.delegate = delegate;
+        this.codec = codec;
+        this.threshold = Math.max(threshold, 0);
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        byte[] bytes = delegate.serialize(value);
+        if (bytes == null || bytes.length == 0) {
+            return bytes;
+        }
+
+        if (bytes.length >= threshold && bytes.length > HEADER_LENGTH + 1) {
+            byte[] target = new byte[bytes.length - 1];
+            int length = codec.compress(bytes, target, HEADER_LENGTH);
+            if (length >= 0 && HEADER_LENGTH + length < bytes.length) {
+                target[0] = MAGIC;
+                target[1] = codec.getId();
+                writeInt(target, 2, bytes.length);
+                return Arrays.copyOf(target, HEADER_LENGTH + length);
+            }
+        }
+
+        if (bytes[0] != MAGIC) {
+            return bytes;
+        }
+
+        byte[] escaped = new byte[bytes.length + 2];
+        escaped[0] = MAGIC;
+        escaped[1] = UNCOMPRESSED;
+        System.arraycopy(bytes, 0, escaped, 2, bytes.length);
+        return escaped;
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length < 2 || bytes[0] != MAGIC) {
+            return delegate.deserialize(bytes);
+        }
+
+        if (bytes[1] == UNCOMPRESSED) {
+            return delegate.deserialize(Arrays.copyOfRange(bytes, 2, bytes.length));
+        }
+
+        CompressionCodec valueCodec = CompressionCodec.of(bytes[1]);
+        if (valueCodec == null || bytes.length < HEADER_LENGTH) {
+            throw new SerializationException("Cannot decompress value with unknown header " + bytes[1]);
+        }
+        if (!valueCodec.isAvailable()) {
+            throw new SerializationException("Cannot decompress " + valueCodec + " value, codec is not on the classpath");
+        }
+
+        int length = readInt(bytes, 2);
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new SerializationException("Cannot decompress value of " + length + " bytes");
+        }
+
+        byte[] decompressed = new byte[length];
+        valueCodec.decompress(bytes, HEADER_LENGTH, decompressed);
+        return delegate.deserialize(decompressed);
+    }
+
+    private static void writeInt(byte[] target, int offset, int value) {
+        target[offset] = (byte) (value >>> 24);
+        target[offset + 1] = (byte) (value >>> 16);
+        target[offset + 2] = (byte) (value >>> 8);
+        target[offset + 3] = (byte) value;
+    }
+
+    private static int readInt(byte[] source, int offset) {
+        return (source[offset] & 0xFF) << 24
+                | (source[offset + 1] & 0xFF) << 16
+                | (source[offset + 2] & 0xFF) << 8
+                | (source[offset + 3] & 0xFF);
+    }
+}
@@ -0,0 +1,145 @@
+package org.springframework.data.redis.serializer;
+
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import org.springframework.util.ClassUtils;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Codecs of {@link CompressingRedisSerializer}, identified on the wire by their {@link #getId() id}.
+ * <p>
+ * {@link #LZ4} is the fast one and needs {@code org.lz4:lz4-java} on the classpath; {@link #DEFLATE} trades
+ * CPU for smaller values and only needs the JDK.
+ */
+public enum CompressionCodec {
+
+    LZ4((byte) 1) {
+        @Override
+        public boolean isAvailable() {
+            return LZ4_PRESENT;
+        }
+
+        @Override
+        int compress(byte[] source, byte[] target, int offset) {
+            return Lz4Holder.compress(source, target, offset);
+        }
+
+        @Override
+        void decompress(byte[] source, int offset, byte[] target) {
+            Lz4Holder.decompress(source, offset, target);
+        }
+    },
+
+    DEFLATE((byte) 2) {
+        @Override
+        int compress(byte[] source, byte[] target, int offset) {
+            Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            try {
+                deflater.setInput(source);
+                deflater.finish();
+                int length = deflater.deflate(target, offset, target.length - offset);
+                return deflater.finished() ? length : -1;
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        void decompress(byte[] source, int offset, byte[] target) {
+            Inflater inflater = new Inflater(true);
+            try {
+                inflater.setInput(source, offset, source.length - offset);
+                int length = 0;
+                while (length < target.length && !inflater.finished()) {
+                    int inflated = inflater.inflate(target, length, target.length - length);
+                    if (inflated == 0) {
+                        // truncated input
+                        break;
+                    }
+                    length += inflated;
+                }
+                if (length != target.length) {
+                    throw new SerializationException("Corrupt Deflate value: expected " + target.length
+                            + " bytes but got " + length);
+                }
+            } catch (DataFormatException ex) {
+                throw new SerializationException("Corrupt Deflate value", ex);
+            } finally {
+                inflater.end();
+            }
+        }
+    };
+
+    private static final boolean LZ4_PRESENT =
+            ClassUtils.isPresent("net.jpountz.lz4.LZ4Factory", CompressionCodec.class.getClassLoader());
+
+    private final byte id;
+
+    CompressionCodec(byte id) {
+        this.id = id;
+    }
+
+    public byte getId() {
+        return id;
+    }
+
+    /**
+     * @return whether the libraries of the codec are on the classpath.
+     */
+    public boolean isAvailable() {
+        return true;
+    }
+
+    /**
+     * Compresses {@code source} into {@code target} starting at {@code offset}.
+     *
+     * @return the compressed length, or {@code -1} if it does not fit in the rest of {@code target}
+     */
+    abstract int compress(byte[] source, byte[] target, int offset);
+
+    /**
+     * Decompresses {@code source} from {@code offset} to its end, filling {@code target} exactly.
+     */
+    abstract void decompress(byte[] source, int offset, byte[] target);
+
+    static CompressionCodec of(byte id) {
+        for (CompressionCodec codec : values()) {
+            if (codec.id == id) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Keeps every lz4-java reference out of the enum, so that {@link #DEFLATE} works without it.
+     */
+    private static class Lz4Holder {
+        private static final LZ4Factory FACTORY = LZ4Factory.fastestInstance();
+
+        static int compress(byte[] source, byte[] target, int offset) {
+            try {
+                return FACTORY.fastCompressor().compress(source, 0, source.length, target, offset, target.length - offset);
+            } catch (LZ4Exception ex) {
+                // does not fit, so it would not be smaller
+                return -1;
+            }
+        }
+
+        static void decompress(byte[] source, int offset, byte[] target) {
+            try {
+                int length = FACTORY.safeDecompressor()
+                        .decompress(source, offset, source.length - offset, target, 0, target.length);
+                if (length != target.length) {
+                    throw new SerializationException("Corrupt LZ4 value: expected " + target.length
+                            + " bytes but got " + length);
+                }
+            } catch (LZ4Exception ex) {
+                throw new SerializationException("Corrupt LZ4 value", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.springframework.data.redis.connection;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+public class BalancedJedisPoolTests {
+
+    private static final long NOW = TimeUnit.SECONDS.toNanos(100);
+
+    @Test
+    public void testLeastOutstanding() {
+        BalancedJedisPool.ProxyLoad busy = new BalancedJedisPool.ProxyLoad(NOW);
+        BalancedJedisPool.ProxyLoad idle = new BalancedJedisPool.ProxyLoad(NOW);
+        busy.borrowed();
+        busy.borrowed();
+        idle.borrowed();
+
+        Assert.assertEquals(1, select(Arrays.asList(busy, idle), 0, JodisBalancingStrategy.LEAST_OUTSTANDING));
+    }
+
+    @Test
+    public void testTiesRotate() {
+        List<BalancedJedisPool.ProxyLoad> loads = Arrays.asList(
+                new BalancedJedisPool.ProxyLoad(NOW), new BalancedJedisPool.ProxyLoad(NOW));
+
+        Assert.assertEquals(0, select(loads, 0, JodisBalancingStrategy.LEAST_OUTSTANDING));
+        Assert.assertEquals(1, select(loads, 1, JodisBalancingStrategy.LEAST_OUTSTANDING));
+        Assert.assertEquals(1, select(loads, 3, JodisBalancingStrategy.ROUND_ROBIN));
+    }
+
+    @Test
+    public void testEwmaLatencyAvoidsSlowProxy() {
+        BalancedJedisPool.ProxyLoad slow = new BalancedJedisPool.ProxyLoad(NOW);
+        BalancedJedisPool.ProxyLoad fast = new BalancedJedisPool.ProxyLoad(NOW);
+        slow.borrowed();
+        slow.returned(TimeUnit.MILLISECONDS.toNanos(200), NOW);
+        fast.borrowed();
+        fast.returned(TimeUnit.MILLISECONDS.toNanos(1), NOW);
+
+        Assert.assertEquals(1, select(Arrays.asList(slow, fast), 0, JodisBalancingStrategy.EWMA_LATENCY));
+    }
+
+    @Test
+    public void testEwmaLatencyDecaysWhileIdle() {
+        BalancedJedisPool.ProxyLoad load = new BalancedJedisPool.ProxyLoad(NOW);
+        load.borrowed();
+        load.returned(TimeUnit.MILLISECONDS.toNanos(200), NOW);
+
+        double cost = load.cost(JodisBalancingStrategy.EWMA_LATENCY, NOW);
+        double later = load.cost(JodisBalancingStrategy.EWMA_LATENCY, NOW + TimeUnit.SECONDS.toNanos(30));
+        Assert.assertTrue(later < cost / 10);
+    }
+
+    private static int select(List<BalancedJedisPool.ProxyLoad> loads, int offset, JodisBalancingStrategy strategy) {
+        return BalancedJedisPool.select(loads, Function.identity(), offset, strategy, NOW);
+    }
+}
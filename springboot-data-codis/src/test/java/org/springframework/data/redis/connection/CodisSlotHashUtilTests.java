@@ -0,0 +1,41 @@
+package org.springframework.data.redis.connection;
+
+import org.apache.commons.codec.binary.StringUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CodisSlotHashUtilTests {
+
+    @Test
+    public void testCalculateSlot() {
+        Assert.assertEquals(289, CodisSlotHashUtil.calculateSlot(StringUtils.getBytesUtf8("foo")));
+        Assert.assertEquals(0, CodisSlotHashUtil.calculateSlot(new byte[]{}));
+    }
+
+    @Test
+    public void testCalculateSlotWithHashTag() {
+        Assert.assertEquals(642, CodisSlotHashUtil.calculateSlot(StringUtils.getBytesUtf8("{user:1}:a")));
+        Assert.assertEquals(642, CodisSlotHashUtil.calculateSlot(StringUtils.getBytesUtf8("user:1")));
+        Assert.assertEquals(0, CodisSlotHashUtil.calculateSlot(StringUtils.getBytesUtf8("a{}b")));
+    }
+
+    @Test
+    public void testGetHashedPart() {
+        Assert.assertEquals("user:1", StringUtils.newStringUtf8(
+                CodisSlotHashUtil.getHashedPart(StringUtils.getBytesUtf8("{user:1}:a"))));
+        Assert.assertEquals("a{b", StringUtils.newStringUtf8(
+                CodisSlotHashUtil.getHashedPart(StringUtils.getBytesUtf8("a{b"))));
+        Assert.assertEquals("", StringUtils.newStringUtf8(
+                CodisSlotHashUtil.getHashedPart(StringUtils.getBytesUtf8("a{}b"))));
+    }
+
+    @Test
+    public void testIsSameSlotForAllKeys() {
+        Assert.assertTrue(CodisSlotHashUtil.isSameSlotForAllKeys(
+                StringUtils.getBytesUtf8("{merchant:7}:tps"),
+                StringUtils.getBytesUtf8("{merchant:7}:limit")));
+        Assert.assertFalse(CodisSlotHashUtil.isSameSlotForAllKeys(
+                StringUtils.getBytesUtf8("foo"),
+                StringUtils.getBytesUtf8("user:1")));
+    }
+}
@@ -0,0 +1,167 @@
+package org.springframework.data.redis.connection;
+
+import io.codis.jodis.JedisResourcePool;
+import org.apache.commons.codec.binary.StringUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import redis.clients.jedis.Builder;
+import redis.clients.jedis.BuilderFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class JodisAsyncCommandsTests {
+
+    private final Map<String, byte[]> stored = new ConcurrentHashMap<>();
+    private final AtomicInteger resources = new AtomicInteger();
+    private final AtomicInteger pipelines = new AtomicInteger();
+    // holds the lanes in their first round trip while commands queue up
+    private volatile CountDownLatch gate;
+    private JodisAsyncCommands commands;
+
+    @Before
+    public void setUp() {
+        commands = new JodisAsyncCommands(inMemoryPool(), 2, 64);
+    }
+
+    @After
+    public void tearDown() {
+        commands.destroy();
+    }
+
+    @Test
+    public void testCommandsOnOneKeyRunInOrder() {
+        byte[] key = StringUtils.getBytesUtf8("user:1");
+        commands.set(key, StringUtils.getBytesUtf8("a"));
+        CompletableFuture<byte[]> first = commands.get(key);
+        commands.set(key, StringUtils.getBytesUtf8("b"));
+        CompletableFuture<byte[]> second = commands.get(key);
+
+        Assert.assertEquals("a", StringUtils.newStringUtf8(first.join()));
+        Assert.assertEquals("b", StringUtils.newStringUtf8(second.join()));
+    }
+
+    @Test
+    public void testAllKeepsOrderAndLanesPinOneResource() {
+        List<CompletableFuture<byte[]>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            byte[] key = StringUtils.getBytesUtf8("user:" + i);
+            commands.set(key, StringUtils.getBytesUtf8(String.valueOf(i)));
+            futures.add(commands.get(key));
+        }
+
+        List<byte[]> values = JodisAsyncCommands.all(futures).join();
+        for (int i = 0; i < 20; i++) {
+            Assert.assertEquals(String.valueOf(i), StringUtils.newStringUtf8(values.get(i)));
+        }
+        Assert.assertTrue(resources.get() <= 2);
+    }
+
+    @Test
+    public void testGetAllKeepsOrderAndSharesPipelines() {
+        List<byte[]> keys = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            byte[] key = StringUtils.getBytesUtf8("user:" + i);
+            keys.add(key);
+            if (i % 2 == 0) {
+                commands.set(key, StringUtils.getBytesUtf8(String.valueOf(i))).join();
+            }
+        }
+        int pipelinesBefore = pipelines.get();
+
+        gate = new CountDownLatch(1);
+        CompletableFuture<List<byte[]>> future = commands.getAll(keys);
+        gate.countDown();
+        List<byte[]> values = future.join();
+        for (int i = 0; i < 50; i++) {
+            Assert.assertEquals(i % 2 == 0 ? String.valueOf(i) : null, StringUtils.newStringUtf8(values.get(i)));
+        }
+        // at most one round trip per lane before the gate opens and one for everything queued behind it
+        Assert.assertTrue(pipelines.get() - pipelinesBefore <= 4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testExpireOutOfIntRange() {
+        commands.expire(StringUtils.getBytesUtf8("user:1"), Integer.MAX_VALUE + 1L);
+    }
+
+    @Test
+    public void testCommandsAfterDestroyAreRejected() throws InterruptedException {
+        commands.destroy();
+        try {
+            commands.get(StringUtils.getBytesUtf8("user:1")).get();
+            Assert.fail();
+        } catch (ExecutionException ex) {
+            Assert.assertTrue(ex.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
+    private JedisResourcePool inMemoryPool() {
+        return (JedisResourcePool) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{JedisResourcePool.class}, (proxy, method, args) -> {
+                    if (!"getResource".equals(method.getName())) {
+                        return null;
+                    }
+                    resources.incrementAndGet();
+                    return new Jedis() {
+
+                        @Override
+                        public Pipeline pipelined() {
+                            pipelines.incrementAndGet();
+                            return new Pipeline() {
+
+                                @Override
+                                public Response<byte[]> get(byte[] key) {
+                                    return reply(BuilderFactory.BYTE_ARRAY, stored.get(StringUtils.newStringUtf8(key)));
+                                }
+
+                                @Override
+                                public Response<String> set(byte[] key, byte[] value) {
+                                    stored.put(StringUtils.newStringUtf8(key), value);
+                                    return reply(BuilderFactory.STRING, StringUtils.getBytesUtf8("OK"));
+                                }
+
+                                @Override
+                                public void sync() {
+                                    CountDownLatch current = gate;
+                                    if (current != null) {
+                                        try {
+                                            current.await();
+                                        } catch (InterruptedException ex) {
+                                            Thread.currentThread().interrupt();
+                                        }
+                                    }
+                                }
+                            };
+                        }
+
+                        @Override
+                        public void resetState() {
+                        }
+
+                        @Override
+                        public void close() {
+                        }
+                    };
+                });
+    }
+
+    private static <T> Response<T> reply(Builder<T> builder, Object data) {
+        Response<T> response = new Response<>(builder);
+        response.set(data);
+        return response;
+    }
+}
@@ -0,0 +1,219 @@
+package org.springframework.data.redis.connection;
+
+import io.codis.jodis.JedisResourcePool;
+import org.apache.commons.codec.binary.StringUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import redis.clients.jedis.BuilderFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class JodisAutoPipeliningExecutorTests {
+
+    private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+    private final List<Integer> batches = Collections.synchronizedList(new ArrayList<>());
+    // counted down by every sync, before it waits on the gate
+    private final CountDownLatch syncing = new CountDownLatch(1);
+    // holds the lanes in their round trip while open
+    private volatile CountDownLatch gate;
+    // callers block until their reply, so they get their own threads
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private JodisAutoPipeliningExecutor executor;
+
+    @After
+    public void tearDown() {
+        if (gate != null) {
+            gate.countDown();
+        }
+        executor.destroy();
+        callers.shutdownNow();
+    }
+
+    @Test
+    public void testFlushesOnBatchSize() throws Exception {
+        executor = new JodisAutoPipeliningExecutor(inMemoryPool(),
+                new JodisAutoPipeliningConfiguration(1, 4, TimeUnit.SECONDS.toMicros(60), 64, 10000));
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(get("user:" + i));
+        }
+        // far before the flush interval
+        for (int i = 0; i < 4; i++) {
+            Assert.assertEquals("value-user:" + i, futures.get(i).get(5, TimeUnit.SECONDS));
+        }
+        Assert.assertEquals(Collections.singletonList(4), batches);
+    }
+
+    @Test
+    public void testFlushesOnInterval() throws Exception {
+        executor = new JodisAutoPipeliningExecutor(inMemoryPool(),
+                new JodisAutoPipeliningConfiguration(1, 64, 1000, 64, 10000));
+
+        Assert.assertEquals("value-user:1", get("user:1").get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(Collections.singletonList(1), batches);
+    }
+
+    @Test
+    public void testEachCallerGetsItsOwnReply() throws Exception {
+        executor = new JodisAutoPipeliningExecutor(inMemoryPool(),
+                new JodisAutoPipeliningConfiguration(2, 8, 200, 1024, 10000));
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            futures.add(get("user:" + i));
+        }
+        for (int i = 0; i < 200; i++) {
+            Assert.assertEquals("value-user:" + i, futures.get(i).get(5, TimeUnit.SECONDS));
+        }
+        Assert.assertEquals(200, sent.size());
+        Assert.assertTrue(batches.size() < 200);
+    }
+
+    @Test
+    public void testWithdrawnCommandIsNeverSent() throws Exception {
+        executor = new JodisAutoPipeliningExecutor(inMemoryPool(),
+                new JodisAutoPipeliningConfiguration(1, 1, 100, 64, 200));
+        gate = new CountDownLatch(1);
+
+        CompletableFuture<String> first = get("user:1");
+        syncing.await();
+        try {
+            executor.execute(pipeline -> pipeline.get(StringUtils.getBytesUtf8("user:2")));
+            Assert.fail();
+        } catch (JedisConnectionException ex) {
+            Assert.assertEquals("Auto pipelined command timed out", ex.getMessage());
+        }
+
+        gate.countDown();
+        Assert.assertEquals("value-user:1", first.get(5, TimeUnit.SECONDS));
+        // queued behind the withdrawn command
+        Assert.assertEquals("value-user:3", get("user:3").get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(Arrays.asList("user:1", "user:3"), sent);
+    }
+
+    @Test
+    public void testSentCommandIsAwaited() throws Exception {
+        executor = new JodisAutoPipeliningExecutor(inMemoryPool(),
+                new JodisAutoPipeliningConfiguration(1, 1, 100, 64, 200));
+        gate = new CountDownLatch(1);
+
+        CompletableFuture<String> future = get("user:1");
+        syncing.await();
+        try {
+            future.get(600, TimeUnit.MILLISECONDS);
+            Assert.fail();
+        } catch (TimeoutException ex) {
+            // still waiting past its timeout
+        }
+
+        gate.countDown();
+        Assert.assertEquals("value-user:1", future.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testDestroyRejectsQueuedCommands() throws Exception {
+        executor = new JodisAutoPipeliningExecutor(inMemoryPool(),
+                new JodisAutoPipeliningConfiguration(1, 1, 100, 64, 10000));
+        gate = new CountDownLatch(1);
+
+        CompletableFuture<String> first = get("user:1");
+        syncing.await();
+        CompletableFuture<String> queued = get("user:2");
+        Thread.sleep(100);
+        CompletableFuture<Void> destroyed = CompletableFuture.runAsync(executor::destroy, callers);
+
+        // let the executor see it is shut down before the lane finishes its batch
+        Thread.sleep(200);
+        gate.countDown();
+        destroyed.get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals("value-user:1", first.get(5, TimeUnit.SECONDS));
+        try {
+            queued.get(5, TimeUnit.SECONDS);
+            Assert.fail();
+        } catch (ExecutionException ex) {
+            Assert.assertTrue(ex.getCause() instanceof RejectedExecutionException);
+        }
+        Assert.assertEquals(Collections.singletonList("user:1"), sent);
+
+        try {
+            executor.execute(pipeline -> pipeline.get(StringUtils.getBytesUtf8("user:3")));
+            Assert.fail();
+        } catch (RejectedExecutionException ex) {
+            // shut down
+        }
+    }
+
+    private CompletableFuture<String> get(String key) {
+        return CompletableFuture.supplyAsync(() -> StringUtils.newStringUtf8(
+                executor.execute(pipeline -> pipeline.get(StringUtils.getBytesUtf8(key)))), callers);
+    }
+
+    private JedisResourcePool inMemoryPool() {
+        return (JedisResourcePool) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{JedisResourcePool.class}, (proxy, method, args) -> {
+                    if (!"getResource".equals(method.getName())) {
+                        return null;
+                    }
+                    return new Jedis() {
+
+                        @Override
+                        public Pipeline pipelined() {
+                            return new Pipeline() {
+                                private int size;
+
+                                @Override
+                                public Response<byte[]> get(byte[] key) {
+                                    String name = StringUtils.newStringUtf8(key);
+                                    sent.add(name);
+                                    size++;
+                                    Response<byte[]> response = new Response<>(BuilderFactory.BYTE_ARRAY);
+                                    response.set(StringUtils.getBytesUtf8("value-" + name));
+                                    return response;
+                                }
+
+                                @Override
+                                public void sync() {
+                                    batches.add(size);
+                                    syncing.countDown();
+                                    CountDownLatch current = gate;
+                                    if (current != null) {
+                                        try {
+                                            current.await();
+                                        } catch (InterruptedException ex) {
+                                            Thread.currentThread().interrupt();
+                                        }
+                                    }
+                                }
+                            };
+                        }
+
+                        @Override
+                        public void resetState() {
+                        }
+
+                        @Override
+                        public void close() {
+                        }
+                    };
+                });
+    }
+}
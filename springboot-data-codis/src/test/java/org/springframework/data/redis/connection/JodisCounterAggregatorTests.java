@@ -0,0 +1,100 @@
+package org.springframework.data.redis.connection;
+
+import org.apache.commons.codec.binary.StringUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+public class JodisCounterAggregatorTests {
+
+    private static final byte[] KEY = StringUtils.getBytesUtf8("tps:merchant:42");
+
+    private final Map<String, Long> written = new HashMap<>();
+
+    @Test
+    public void testFlushWritesDeltaSinceLastFlush() {
+        JodisCounterAggregator aggregator = new JodisCounterAggregator(recordingFactory(), 60000, 0);
+        for (int i = 0; i < 5; i++) {
+            aggregator.increment(KEY);
+        }
+        aggregator.incrementBy(KEY, 10);
+        Assert.assertEquals(15, aggregator.getPending(KEY));
+
+        aggregator.flush();
+        Assert.assertEquals(Long.valueOf(15), written.get("tps:merchant:42"));
+        Assert.assertEquals(0, aggregator.getPending(KEY));
+
+        aggregator.incrementBy(KEY, -3);
+        aggregator.flush();
+        Assert.assertEquals(Long.valueOf(12), written.get("tps:merchant:42"));
+
+        aggregator.destroy();
+    }
+
+    @Test
+    public void testIncrementsRacingIdleFlushesAreWritten() throws InterruptedException {
+        JodisCounterAggregator aggregator = new JodisCounterAggregator(recordingFactory(), 1, 0);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                aggregator.flush();
+            }
+        });
+        flusher.start();
+
+        List<Thread> writers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread writer = new Thread(() -> {
+                for (int j = 0; j < 20000; j++) {
+                    aggregator.increment(KEY);
+                    if (j % 64 == 0) {
+                        // leave the key idle for a few flushes
+                        LockSupport.parkNanos(100000);
+                    }
+                }
+            });
+            writer.start();
+            writers.add(writer);
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        running.set(false);
+        flusher.join();
+
+        aggregator.destroy();
+        Assert.assertEquals(Long.valueOf(80000), written.get("tps:merchant:42"));
+    }
+
+    private RedisConnectionFactory recordingFactory() {
+        List<Object> results = new ArrayList<>();
+        RedisConnection connection = (RedisConnection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{RedisConnection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "incrBy":
+                            String key = StringUtils.newStringUtf8((byte[]) args[0]);
+                            long value = written.getOrDefault(key, 0L) + (Long) args[1];
+                            written.put(key, value);
+                            results.add(value);
+                            return null;
+                        case "closePipeline":
+                            List<Object> closed = new ArrayList<>(results);
+                            results.clear();
+                            return closed;
+                        default:
+                            return null;
+                    }
+                });
+
+        return (RedisConnectionFactory) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{RedisConnectionFactory.class},
+                (proxy, method, args) -> "getConnection".equals(method.getName()) ? connection : null);
+    }
+}
@@ -0,0 +1,80 @@
+package org.springframework.data.redis.connection;
+
+import org.apache.commons.codec.binary.StringUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class JodisHotKeySamplerTests {
+
+    private static final byte[] HOT_KEY = StringUtils.getBytesUtf8("item:1");
+
+    @Test
+    public void testHotKeySurvivesEvictions() {
+        AtomicLong clock = new AtomicLong();
+        JodisHotKeySampler sampler = new JodisHotKeySampler(1, 4, 60000, clock::get);
+        for (int i = 0; i < 100; i++) {
+            sampler.sample("GET", HOT_KEY);
+            sampler.sample("GET", StringUtils.getBytesUtf8("item:cold:" + i));
+        }
+        sampler.sample("SET", HOT_KEY);
+
+        List<JodisHotKeySampler.HotKey> hotKeys = sampler.getHotKeys(true);
+        Assert.assertEquals(4, hotKeys.size());
+        JodisHotKeySampler.HotKey hottest = hotKeys.get(0);
+        Assert.assertEquals("item:1", StringUtils.newStringUtf8(hottest.getKey()));
+        Assert.assertEquals(101, hottest.getCount());
+        Assert.assertEquals(0, hottest.getError());
+        Assert.assertEquals(100, hottest.getReads());
+        Assert.assertEquals(1, hottest.getWrites());
+    }
+
+    @Test
+    public void testWindowsRotate() {
+        AtomicLong clock = new AtomicLong();
+        JodisHotKeySampler sampler = new JodisHotKeySampler(1, 4, 60000, clock::get);
+        sampler.sample("GET", HOT_KEY);
+        Assert.assertTrue(sampler.getHotKeys(false).isEmpty());
+
+        clock.set(60000);
+        Assert.assertEquals(1, sampler.getHotKeys(false).size());
+        Assert.assertEquals(0, sampler.getHotKeys(false).get(0).getWindowStart());
+        Assert.assertTrue(sampler.getHotKeys(true).isEmpty());
+
+        clock.set(180000);
+        Assert.assertTrue(sampler.getHotKeys(false).isEmpty());
+    }
+
+    @Test
+    public void testCountsAddUpToSamples() throws InterruptedException {
+        AtomicLong clock = new AtomicLong();
+        JodisHotKeySampler sampler = new JodisHotKeySampler(1, 8, 60000, clock::get);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    sampler.sample("GET", HOT_KEY);
+                    sampler.sample("GET", StringUtils.getBytesUtf8("item:cold:" + offset + ":" + i));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        List<JodisHotKeySampler.HotKey> hotKeys = sampler.getHotKeys(true);
+        Assert.assertEquals(8, hotKeys.size());
+        Assert.assertEquals("item:1", StringUtils.newStringUtf8(hotKeys.get(0).getKey()));
+        long total = 0;
+        for (JodisHotKeySampler.HotKey hotKey : hotKeys) {
+            total += hotKey.getCount();
+        }
+        // contended buffers are dropped, but every merged sample is counted once
+        Assert.assertTrue(total <= 8000);
+        Assert.assertEquals(total, hotKeys.stream().mapToLong(hotKey -> hotKey.getReads() + hotKey.getError()).sum());
+    }
+}
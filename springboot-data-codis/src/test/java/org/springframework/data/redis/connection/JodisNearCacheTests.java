@@ -0,0 +1,103 @@
+package org.springframework.data.redis.connection;
+
+import org.apache.commons.codec.binary.StringUtils;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.cache.Cache;
+
+import java.util.Collections;
+
+public class JodisNearCacheTests {
+
+    private static final byte[] KEY = StringUtils.getBytesUtf8("config:feature");
+    private static final byte[] FIELD = StringUtils.getBytesUtf8("enabled");
+    private static final byte[] VALUE = StringUtils.getBytesUtf8("true");
+
+    @Test
+    public void testHitAndMiss() {
+        JodisNearCache cache = new JodisNearCache(new JodisNearCacheConfiguration());
+
+        Assert.assertNull(cache.get(KEY));
+        cache.put(KEY, VALUE, cache.stamp(KEY));
+        cache.put(KEY, FIELD, null, cache.stamp(KEY));
+
+        Assert.assertArrayEquals(VALUE, (byte[]) cache.get(KEY).get());
+        Cache.ValueWrapper field = cache.get(KEY, FIELD);
+        Assert.assertNotNull(field);
+        Assert.assertNull(field.get());
+        Assert.assertEquals(2, cache.getHitCount());
+        Assert.assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testInvalidate() {
+        JodisNearCache cache = new JodisNearCache(new JodisNearCacheConfiguration());
+        cache.put(KEY, FIELD, VALUE, cache.stamp(KEY));
+
+        cache.invalidate(KEY);
+        Assert.assertNull(cache.get(KEY, FIELD));
+    }
+
+    @Test
+    public void testPutAfterInvalidationIsDropped() {
+        JodisNearCache cache = new JodisNearCache(new JodisNearCacheConfiguration());
+
+        long stamp = cache.stamp(KEY);
+        cache.invalidate(KEY);
+        cache.put(KEY, VALUE, stamp);
+
+        Assert.assertNull(cache.get(KEY));
+    }
+
+    @Test
+    public void testInvalidationOfOtherKeysKeepsPut() {
+        JodisNearCache cache = new JodisNearCache(
+                new JodisNearCacheConfiguration(Collections.singletonList("config:"), 10, 1000));
+
+        long stamp = cache.stamp(KEY);
+        cache.invalidate(StringUtils.getBytesUtf8("config:other"), StringUtils.getBytesUtf8("session:1"));
+        cache.put(KEY, VALUE, stamp);
+
+        Assert.assertArrayEquals(VALUE, (byte[]) cache.get(KEY).get());
+    }
+
+    @Test
+    public void testKeyPrefixes() {
+        JodisNearCache cache = new JodisNearCache(
+                new JodisNearCacheConfiguration(Collections.singletonList("config:"), 10, 1000));
+
+        Assert.assertTrue(cache.isCacheable(KEY));
+        Assert.assertFalse(cache.isCacheable(StringUtils.getBytesUtf8("session:1")));
+    }
+
+    @Test
+    public void testMaximumSize() {
+        JodisNearCache cache = new JodisNearCache(
+                new JodisNearCacheConfiguration(Collections.emptyList(), 2, 1000));
+
+        for (int i = 0; i < 5; i++) {
+            byte[] key = StringUtils.getBytesUtf8("key" + i);
+            cache.put(key, VALUE, cache.stamp(key));
+        }
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(3, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testHashFieldsAreWeighed() {
+        JodisNearCache cache = new JodisNearCache(
+                new JodisNearCacheConfiguration(Collections.emptyList(), 4, 1000));
+        byte[] other = StringUtils.getBytesUtf8("config:other");
+        cache.put(other, VALUE, cache.stamp(other));
+
+        for (int i = 0; i < 10; i++) {
+            cache.put(KEY, StringUtils.getBytesUtf8("field" + i), VALUE, cache.stamp(KEY));
+        }
+
+        Assert.assertNull(cache.get(other));
+        Assert.assertEquals(1, cache.getEvictionCount());
+        Assert.assertNotNull(cache.get(KEY, StringUtils.getBytesUtf8("field3")));
+        Assert.assertNull(cache.get(KEY, StringUtils.getBytesUtf8("field4")));
+    }
+}
@@ -0,0 +1,38 @@
+package org.springframework.data.redis.connection;
+
+import org.apache.commons.codec.binary.StringUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+
+public class JodisPfAddAccumulatorTests {
+
+    private static final byte[] KEY = StringUtils.getBytesUtf8("uv:20181010");
+    private static final byte[] OTHER_KEY = StringUtils.getBytesUtf8("uv:20181011");
+
+    @Test
+    public void testDrainDeduplicatesValuesPerKey() {
+        JodisPfAddAccumulator accumulator = new JodisPfAddAccumulator(null, 0, 100);
+        accumulator.add(KEY, StringUtils.getBytesUtf8("u1"), StringUtils.getBytesUtf8("u2"));
+        accumulator.add(KEY, StringUtils.getBytesUtf8("u1"));
+        accumulator.add(OTHER_KEY, StringUtils.getBytesUtf8("u1"));
+        Assert.assertEquals(3, accumulator.getPendingValues());
+
+        Map<byte[], byte[][]> batch = accumulator.drain();
+        Assert.assertEquals(2, batch.size());
+        for (Map.Entry<byte[], byte[][]> entry : batch.entrySet()) {
+            Assert.assertEquals(Arrays.equals(KEY, entry.getKey()) ? 2 : 1, entry.getValue().length);
+        }
+        Assert.assertEquals(0, accumulator.getPendingValues());
+        Assert.assertTrue(accumulator.drain().isEmpty());
+    }
+
+    @Test
+    public void testFlushWithoutValuesDoesNotConnect() {
+        JodisPfAddAccumulator accumulator = new JodisPfAddAccumulator(null, 0, 100);
+        accumulator.flush();
+        accumulator.destroy();
+    }
+}
@@ -7,9 +7,13 @@ import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.data.redis.connection.CodisSlotHashUtil;
+import org.springframework.data.redis.connection.DefaultSortParameters;
+import org.springframework.data.redis.connection.SortParameters;
 import redis.clients.jedis.JedisPoolConfig;
 
 import java.io.IOException;
+import java.util.List;
 
 @Slf4j
 public class JodisConnectionTests {
@@ -60,6 +64,44 @@ public class JodisConnectionTests {
         Assert.assertEquals(get,TEST_VALUE);
     }
 
+    @Test
+    public void testSortAndStoreAcrossSlotsWithGetPatterns() {
+        byte[] source = StringUtils.getBytesUtf8("foe:my:test:sort:source");
+        byte[] destination = StringUtils.getBytesUtf8("foe:my:test:sort:destination");
+        Assert.assertFalse(CodisSlotHashUtil.isSameSlotForAllKeys(source, destination));
+
+        int count = 2500;
+        byte[][] ids = new byte[count][];
+        jodisConnection.openPipeline();
+        for (int i = 0; i < count; i++) {
+            ids[i] = StringUtils.getBytesUtf8(String.valueOf(i));
+            if (i % 2 == 0) {
+                jodisConnection.set(StringUtils.getBytesUtf8("foe:my:test:sort:name:" + i),
+                        StringUtils.getBytesUtf8("name" + i));
+            }
+        }
+        jodisConnection.closePipeline();
+        jodisConnection.del(source);
+        jodisConnection.rPush(source, ids);
+
+        try {
+            SortParameters params = new DefaultSortParameters()
+                    .get(StringUtils.getBytesUtf8("#"))
+                    .get(StringUtils.getBytesUtf8("foe:my:test:sort:name:*"));
+            Assert.assertEquals(Long.valueOf(2 * count), jodisConnection.sort(source, params, destination));
+            Assert.assertEquals(Long.valueOf(2 * count), jodisConnection.lLen(destination));
+
+            List<byte[]> boundary = jodisConnection.lRange(destination, 2000, 2003);
+            Assert.assertEquals("1000", StringUtils.newStringUtf8(boundary.get(0)));
+            Assert.assertEquals("name1000", StringUtils.newStringUtf8(boundary.get(1)));
+            Assert.assertEquals("1001", StringUtils.newStringUtf8(boundary.get(2)));
+            // a missing GET result is stored as an empty string
+            Assert.assertEquals("", StringUtils.newStringUtf8(boundary.get(3)));
+        } finally {
+            jodisConnection.del(source, destination);
+        }
+    }
+
 
 
 
@@ -0,0 +1,31 @@
+package org.springframework.data.redis.connection.jedis;
+
+import org.apache.commons.codec.binary.StringUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class JodisDelayedQueueTests {
+
+    @Test
+    public void testParseClaim() {
+        JodisDelayedQueue.Claim claim = JodisDelayedQueue.parseClaim(Arrays.asList(
+                StringUtils.getBytesUtf8("tx-1"), StringUtils.getBytesUtf8("tx-2"),
+                StringUtils.getBytesUtf8("1539158400000")));
+
+        Assert.assertEquals(2, claim.getItems().size());
+        Assert.assertEquals("tx-2", StringUtils.newStringUtf8(claim.getItems().get(1)));
+        Assert.assertEquals(1539158400000L, claim.getNextDueAt());
+    }
+
+    @Test
+    public void testParseEmptyClaim() {
+        JodisDelayedQueue.Claim claim = JodisDelayedQueue.parseClaim(
+                Collections.singletonList(StringUtils.getBytesUtf8("-1")));
+
+        Assert.assertTrue(claim.getItems().isEmpty());
+        Assert.assertEquals(-1, claim.getNextDueAt());
+    }
+}
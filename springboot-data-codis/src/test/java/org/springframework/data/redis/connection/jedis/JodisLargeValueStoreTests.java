@@ -0,0 +1,121 @@
+package org.springframework.data.redis.connection.jedis;
+
+import org.apache.commons.codec.binary.StringUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.channels.Channels;
+import java.util.HashMap;
+import java.util.Map;
+
+public class JodisLargeValueStoreTests {
+
+    private static final byte[] KEY = StringUtils.getBytesUtf8("batch:result:1");
+    private static final byte[] VALUE = StringUtils.getBytesUtf8("0123456789");
+
+    private final Map<String, byte[]> stored = new HashMap<>();
+    private JodisLargeValueStore store;
+
+    @Before
+    public void setUp() {
+        store = new JodisLargeValueStore(inMemoryFactory());
+        store.setChunkSize(4);
+        store.setThreshold(4);
+        store.setPipelineChunks(2);
+    }
+
+    @Test
+    public void testLargeValueIsChunked() throws IOException {
+        store.put(KEY, VALUE);
+        Assert.assertEquals(4, stored.size());
+        Assert.assertEquals(JodisLargeValueStore.MAGIC, stored.get("batch:result:1")[0]);
+        Assert.assertEquals(10, store.size(KEY));
+
+        Assert.assertEquals("0123456789", read(store.openStream(KEY)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Assert.assertEquals(10, store.transferTo(KEY, Channels.newChannel(out)));
+        Assert.assertEquals("0123456789", StringUtils.newStringUtf8(out.toByteArray()));
+    }
+
+    @Test
+    public void testRewriteDeletesPreviousChunks() throws IOException {
+        store.put(KEY, VALUE);
+        store.put(KEY, StringUtils.getBytesUtf8("abcdefgh"));
+        Assert.assertEquals(3, stored.size());
+        Assert.assertEquals("abcdefgh", read(store.openStream(KEY)));
+
+        store.put(KEY, StringUtils.getBytesUtf8("abc"));
+        Assert.assertEquals(1, stored.size());
+        Assert.assertEquals("abc", StringUtils.newStringUtf8(stored.get("batch:result:1")));
+
+        Assert.assertTrue(store.delete(KEY));
+        Assert.assertTrue(stored.isEmpty());
+        Assert.assertNull(store.openStream(KEY));
+    }
+
+    @Test
+    public void testSmallValueStartingWithMarkerIsEscaped() throws IOException {
+        byte[] value = {JodisLargeValueStore.MAGIC, JodisLargeValueStore.CHUNKED};
+        store.put(KEY, value);
+        Assert.assertEquals(4, stored.get("batch:result:1").length);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        store.transferTo(KEY, Channels.newChannel(out));
+        Assert.assertArrayEquals(value, out.toByteArray());
+    }
+
+    @Test(expected = IOException.class)
+    public void testMissingChunkFailsTheRead() throws IOException {
+        store.put(KEY, VALUE);
+        stored.keySet().removeIf(key -> key.contains(":chunk:") && key.endsWith(":1"));
+        read(store.openStream(KEY));
+    }
+
+    private static String read(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[3];
+        int read;
+        while ((read = in.read(buffer)) >= 0) {
+            out.write(buffer, 0, read);
+        }
+        return StringUtils.newStringUtf8(out.toByteArray());
+    }
+
+    private RedisConnectionFactory inMemoryFactory() {
+        RedisConnection connection = (RedisConnection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{RedisConnection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "get":
+                            return stored.get(StringUtils.newStringUtf8((byte[]) args[0]));
+                        case "set":
+                            stored.put(StringUtils.newStringUtf8((byte[]) args[0]), (byte[]) args[1]);
+                            return null;
+                        case "getSet":
+                            return stored.put(StringUtils.newStringUtf8((byte[]) args[0]), (byte[]) args[1]);
+                        case "eval":
+                            // the GET and DEL script of delete
+                            return stored.remove(StringUtils.newStringUtf8(((byte[][]) args[3])[0]));
+                        case "del":
+                            long deleted = 0;
+                            for (byte[] key : (byte[][]) args[0]) {
+                                deleted += stored.remove(StringUtils.newStringUtf8(key)) != null ? 1 : 0;
+                            }
+                            return deleted;
+                        default:
+                            return null;
+                    }
+                });
+
+        return (RedisConnectionFactory) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{RedisConnectionFactory.class},
+                (proxy, method, args) -> "getConnection".equals(method.getName()) ? connection : null);
+    }
+}
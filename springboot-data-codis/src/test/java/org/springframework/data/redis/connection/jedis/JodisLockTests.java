@@ -0,0 +1,209 @@
+package org.springframework.data.redis.connection.jedis;
+
+import org.apache.commons.codec.binary.StringUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.redis.connection.JodisLockMetrics;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class JodisLockTests {
+
+    private static final String KEY = "{lock:settlement:42}";
+
+    // guarded by itself, the scripts run atomically as on Codis
+    private final Map<String, byte[]> stored = new HashMap<>();
+    private final AtomicInteger contentions = new AtomicInteger();
+    private final AtomicInteger losses = new AtomicInteger();
+    private JodisLockRegistry registry;
+
+    @Before
+    public void setUp() {
+        registry = new JodisLockRegistry(scriptingFactory(), recordingMetrics());
+    }
+
+    @After
+    public void tearDown() {
+        registry.destroy();
+    }
+
+    @Test
+    public void testSecondOwnerCannotAcquire() throws InterruptedException {
+        JodisLock first = registry.getLock("settlement:42");
+        JodisLock second = registry.getLock("settlement:42");
+
+        Assert.assertTrue(first.tryLock());
+        Assert.assertFalse(second.tryLock());
+        Assert.assertFalse(second.tryLock(20, TimeUnit.MILLISECONDS));
+        Assert.assertFalse(second.isHeld());
+        Assert.assertTrue(contentions.get() >= 2);
+
+        // not reentrant
+        Assert.assertFalse(first.tryLock());
+        Assert.assertTrue(first.isHeld());
+
+        Assert.assertTrue(first.unlock());
+        Assert.assertTrue(second.tryLock());
+        Assert.assertTrue(second.unlock());
+    }
+
+    @Test
+    public void testStaleOwnerDoesNotReleaseNextOwner() {
+        JodisLock stale = registry.getLock("settlement:42");
+        JodisLock next = registry.getLock("settlement:42");
+
+        Assert.assertTrue(stale.tryLock());
+        expire(KEY);
+        Assert.assertTrue(next.tryLock());
+
+        Assert.assertFalse(stale.unlock());
+        Assert.assertEquals(1, losses.get());
+        Assert.assertNotNull(get(KEY));
+
+        Assert.assertTrue(next.unlock());
+        Assert.assertNull(get(KEY));
+    }
+
+    @Test
+    public void testRenewalFindingLockTakenOverMarksItLost() throws InterruptedException {
+        registry.setLeaseMs(30);
+        JodisLock lock = registry.getLock("settlement:42");
+        Assert.assertTrue(lock.tryLock());
+
+        // renewed while still held
+        Thread.sleep(100);
+        Assert.assertTrue(lock.isHeld());
+        Assert.assertEquals(0, losses.get());
+
+        put(KEY, StringUtils.getBytesUtf8("another-owner"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (lock.isHeld() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertFalse(lock.isHeld());
+        Assert.assertEquals(-1, lock.getFencingToken());
+        Assert.assertEquals(1, losses.get());
+
+        Assert.assertFalse(lock.unlock());
+        Assert.assertEquals("another-owner", StringUtils.newStringUtf8(get(KEY)));
+    }
+
+    @Test
+    public void testFencingTokensIncreaseOnEveryAcquisition() {
+        registry.setFencing(true);
+        JodisLock first = registry.getLock("settlement:42");
+        JodisLock second = registry.getLock("settlement:42");
+
+        long previous = 0;
+        for (int i = 0; i < 3; i++) {
+            JodisLock lock = i % 2 == 0 ? first : second;
+            Assert.assertTrue(lock.tryLock());
+            Assert.assertTrue(lock.getFencingToken() > previous);
+            previous = lock.getFencingToken();
+            Assert.assertTrue(lock.unlock());
+            Assert.assertEquals(-1, lock.getFencingToken());
+        }
+
+        // a lock lost to expiry hands a larger token to the next owner
+        Assert.assertTrue(first.tryLock());
+        long stale = first.getFencingToken();
+        expire(KEY);
+        Assert.assertTrue(second.tryLock());
+        Assert.assertTrue(second.getFencingToken() > stale);
+    }
+
+    private byte[] get(String key) {
+        synchronized (stored) {
+            return stored.get(key);
+        }
+    }
+
+    private void put(String key, byte[] value) {
+        synchronized (stored) {
+            stored.put(key, value);
+        }
+    }
+
+    private void expire(String key) {
+        synchronized (stored) {
+            stored.remove(key);
+        }
+    }
+
+    /**
+     * Answers the acquire, release and renew scripts of {@link JodisLock} over {@link #stored}, ignoring leases.
+     */
+    private RedisConnectionFactory scriptingFactory() {
+        RedisConnection connection = (RedisConnection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{RedisConnection.class}, (proxy, method, args) -> {
+                    if (!"eval".equals(method.getName())) {
+                        return null;
+                    }
+
+                    String script = StringUtils.newStringUtf8((byte[]) args[0]);
+                    byte[][] keysAndArgs = (byte[][]) args[3];
+                    String key = StringUtils.newStringUtf8(keysAndArgs[0]);
+                    synchronized (stored) {
+                        if (script.contains("'NX'")) {
+                            if (stored.containsKey(key)) {
+                                return -1L;
+                            }
+                            stored.put(key, keysAndArgs[2]);
+                            if (!"1".equals(StringUtils.newStringUtf8(keysAndArgs[4]))) {
+                                return 0L;
+                            }
+                            String fenceKey = StringUtils.newStringUtf8(keysAndArgs[1]);
+                            byte[] fence = stored.get(fenceKey);
+                            long next = (fence != null ? Long.parseLong(StringUtils.newStringUtf8(fence)) : 0) + 1;
+                            stored.put(fenceKey, StringUtils.getBytesUtf8(String.valueOf(next)));
+                            return next;
+                        }
+
+                        byte[] owner = stored.get(key);
+                        if (owner == null || !StringUtils.equals(StringUtils.newStringUtf8(owner),
+                                StringUtils.newStringUtf8(keysAndArgs[1]))) {
+                            return 0L;
+                        }
+                        if (script.contains("'DEL'")) {
+                            stored.remove(key);
+                        }
+                        return 1L;
+                    }
+                });
+
+        return (RedisConnectionFactory) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{RedisConnectionFactory.class},
+                (proxy, method, args) -> "getConnection".equals(method.getName()) ? connection : null);
+    }
+
+    private JodisLockMetrics recordingMetrics() {
+        return new JodisLockMetrics() {
+
+            @Override
+            public void recordAcquire(boolean acquired, long nanos) {
+            }
+
+            @Override
+            public void recordRelease(long nanos) {
+            }
+
+            @Override
+            public void recordContention() {
+                contentions.incrementAndGet();
+            }
+
+            @Override
+            public void recordLost() {
+                losses.incrementAndGet();
+            }
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package org.springframework.data.redis.connection.jedis;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.data.redis.connection.CodisSlotHashUtil;
+
+public class JodisMigrationCheckpointTests {
+
+    @Test
+    public void testSerializeRoundTrip() {
+        JodisMigrationCheckpoint checkpoint = new JodisMigrationCheckpoint();
+        checkpoint.markCompleted(0);
+        checkpoint.markCompleted(511);
+        checkpoint.markCompleted(1023);
+
+        JodisMigrationCheckpoint parsed = JodisMigrationCheckpoint.parse(checkpoint.serialize());
+        Assert.assertEquals(3, parsed.getCompletedCount());
+        Assert.assertTrue(parsed.isCompleted(511));
+        Assert.assertFalse(parsed.isCompleted(512));
+        Assert.assertFalse(parsed.isFinished());
+    }
+
+    @Test
+    public void testFinished() {
+        JodisMigrationCheckpoint checkpoint = JodisMigrationCheckpoint.parse("");
+        for (int slot = 0; slot < CodisSlotHashUtil.SLOT_COUNT; slot++) {
+            checkpoint.markCompleted(slot);
+        }
+        Assert.assertTrue(checkpoint.isFinished());
+    }
+}
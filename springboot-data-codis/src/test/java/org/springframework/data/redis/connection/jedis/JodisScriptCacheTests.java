@@ -0,0 +1,34 @@
+package org.springframework.data.redis.connection.jedis;
+
+import org.apache.commons.codec.binary.StringUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JodisScriptCacheTests {
+
+    @Test
+    public void testRegister() {
+        JodisScriptCache cache = new JodisScriptCache();
+        byte[] script = StringUtils.getBytesUtf8("return 1");
+
+        String sha = cache.register(script);
+        Assert.assertEquals("e0e1f9fabfc9d4800c877a703b823ac0578ff8db", sha);
+        Assert.assertArrayEquals(script, cache.getScript(sha));
+    }
+
+    @Test
+    public void testLoadedSlots() {
+        JodisScriptCache cache = new JodisScriptCache();
+        String sha = cache.register(StringUtils.getBytesUtf8("return 1"));
+
+        cache.markLoaded(sha, 0);
+        cache.markLoaded(sha, 63);
+        cache.markLoaded(sha, 1023);
+
+        Assert.assertTrue(cache.isLoaded(sha, 0));
+        Assert.assertTrue(cache.isLoaded(sha, 63));
+        Assert.assertTrue(cache.isLoaded(sha, 1023));
+        Assert.assertFalse(cache.isLoaded(sha, 64));
+        Assert.assertFalse(cache.isLoaded("unknown", 0));
+    }
+}
@@ -0,0 +1,73 @@
+package org.springframework.data.redis.connection.jedis;
+
+import org.apache.commons.codec.binary.StringUtils;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.data.redis.connection.CodisSlotHashUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class JodisSlotScanCursorTests {
+
+    // slot 7 has two pages, slot 100 one page, every other slot is empty
+    private static final JodisSlotScanCursor.SlotPageLoader LOADER = (slot, cursor) -> {
+        if (slot == 7) {
+            return cursor == 0
+                    ? new JodisSlotScanCursor.SlotPage(slot, 42, keys("a:1", "b:1"))
+                    : new JodisSlotScanCursor.SlotPage(slot, 0, keys("a:2"));
+        }
+        if (slot == 100) {
+            return new JodisSlotScanCursor.SlotPage(slot, 0, keys("a:3"));
+        }
+        return new JodisSlotScanCursor.SlotPage(slot, 0, Collections.emptyList());
+    };
+
+    @Test
+    public void testScanInCallerThread() {
+        List<String> keys = scan(new JodisSlotScanCursor(LOADER, null, null, 1).open());
+        Assert.assertEquals(Arrays.asList("a:1", "b:1", "a:2", "a:3"), keys);
+    }
+
+    @Test
+    public void testScanWithPrefetchAndMatch() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            JodisSlotScanCursor cursor = new JodisSlotScanCursor(LOADER, StringUtils.getBytesUtf8("a:*"), executor, 8).open();
+            List<String> keys = scan(cursor);
+            Collections.sort(keys);
+            Assert.assertEquals(Arrays.asList("a:1", "a:2", "a:3"), keys);
+            Assert.assertEquals(3, cursor.getPosition());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testVisitsEverySlot() {
+        List<Integer> slots = Collections.synchronizedList(new ArrayList<>());
+        scan(new JodisSlotScanCursor((slot, cursor) -> {
+            slots.add(slot);
+            return new JodisSlotScanCursor.SlotPage(slot, 0, Collections.emptyList());
+        }, null, null, 1).open());
+        Assert.assertEquals(CodisSlotHashUtil.SLOT_COUNT, slots.size());
+    }
+
+    private static List<String> scan(JodisSlotScanCursor cursor) {
+        List<String> keys = new ArrayList<>();
+        cursor.forEachRemaining(key -> keys.add(StringUtils.newStringUtf8(key)));
+        return keys;
+    }
+
+    private static List<byte[]> keys(String... keys) {
+        List<byte[]> result = new ArrayList<>();
+        for (String key : keys) {
+            result.add(StringUtils.getBytesUtf8(key));
+        }
+        return result;
+    }
+}
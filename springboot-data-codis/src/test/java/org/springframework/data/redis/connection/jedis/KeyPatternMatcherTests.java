@@ -0,0 +1,38 @@
+package org.springframework.data.redis.connection.jedis;
+
+import org.apache.commons.codec.binary.StringUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class KeyPatternMatcherTests {
+
+    @Test
+    public void testWildcards() {
+        Assert.assertTrue(matches("*", "foe:my:test:key1"));
+        Assert.assertTrue(matches("foe:*:key?", "foe:my:test:key1"));
+        Assert.assertFalse(matches("foe:*:key?", "foe:my:test:key12"));
+        Assert.assertTrue(matches("foe:**", "foe:"));
+        Assert.assertTrue(matches("*", ""));
+        Assert.assertFalse(matches("?", ""));
+        Assert.assertFalse(matches("[a]", ""));
+        Assert.assertTrue(matches("foe*", "foe"));
+    }
+
+    @Test
+    public void testClasses() {
+        Assert.assertTrue(matches("h[ae]llo", "hallo"));
+        Assert.assertFalse(matches("h[^e]llo", "hello"));
+        Assert.assertTrue(matches("h[a-b]llo", "hbllo"));
+        Assert.assertTrue(matches("h[b-a]llo", "hallo"));
+    }
+
+    @Test
+    public void testEscape() {
+        Assert.assertTrue(matches("a\\*b", "a*b"));
+        Assert.assertFalse(matches("a\\*b", "axb"));
+    }
+
+    private static boolean matches(String pattern, String key) {
+        return KeyPatternMatcher.matches(StringUtils.getBytesUtf8(pattern), StringUtils.getBytesUtf8(key));
+    }
+}
@@ -0,0 +1,56 @@
+package org.springframework.data.redis.connection.jedis;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.data.redis.core.ScanIteration;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class PrefetchingScanCursorTests {
+
+    @Test
+    public void testScanWithoutPrefetch() {
+        List<Long> requested = Collections.synchronizedList(new ArrayList<>());
+        List<String> members = new ArrayList<>();
+        cursor(requested, null).forEachRemaining(members::add);
+
+        Assert.assertEquals(Arrays.asList("m0", "m1", "m2", "m3", "m4", "m5"), members);
+        Assert.assertEquals(Arrays.asList(0L, 1L, 2L), requested);
+    }
+
+    @Test
+    public void testScanWithPrefetch() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            List<Long> requested = Collections.synchronizedList(new ArrayList<>());
+            List<String> members = new ArrayList<>();
+            PrefetchingScanCursor<String> cursor = cursor(requested, executor);
+            cursor.forEachRemaining(members::add);
+
+            Assert.assertEquals(Arrays.asList("m0", "m1", "m2", "m3", "m4", "m5"), members);
+            Assert.assertEquals(Arrays.asList(0L, 1L, 2L), requested);
+            Assert.assertEquals(6, cursor.getPosition());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // three pages of two members each, cursors 0 -> 1 -> 2 -> 0
+    private static PrefetchingScanCursor<String> cursor(List<Long> requested, ExecutorService executor) {
+        return (PrefetchingScanCursor<String>) new PrefetchingScanCursor<String>(ScanOptions.NONE, executor) {
+
+            @Override
+            protected ScanIteration<String> doScanPage(long cursorId, ScanOptions options) {
+                requested.add(cursorId);
+                long next = cursorId < 2 ? cursorId + 1 : 0;
+                return new ScanIteration<>(next, Arrays.asList("m" + (cursorId * 2), "m" + (cursorId * 2 + 1)));
+            }
+        }.open();
+    }
+}
@@ -0,0 +1,85 @@
+package org.springframework.data.redis.serializer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class CompressingRedisSerializerTests {
+
+    private static final String LARGE_VALUE = largeValue();
+
+    @Test
+    public void testLargeValuesRoundTripWithEveryCodec() {
+        for (CompressionCodec codec : CompressionCodec.values()) {
+            Assert.assertTrue(codec.isAvailable());
+            CompressingRedisSerializer<String> serializer =
+                    new CompressingRedisSerializer<>(new StringRedisSerializer(), codec, 1024);
+
+            byte[] bytes = serializer.serialize(LARGE_VALUE);
+            Assert.assertEquals(CompressingRedisSerializer.MAGIC, bytes[0]);
+            Assert.assertEquals(codec.getId(), bytes[1]);
+            Assert.assertTrue(bytes.length < LARGE_VALUE.length() / 4);
+            Assert.assertEquals(LARGE_VALUE, serializer.deserialize(bytes));
+        }
+    }
+
+    @Test
+    public void testSmallValuesAreUntouched() {
+        CompressingRedisSerializer<String> serializer =
+                new CompressingRedisSerializer<>(new StringRedisSerializer(), CompressionCodec.LZ4, 1024);
+
+        byte[] bytes = serializer.serialize("{\"merchant\":1}");
+        Assert.assertArrayEquals(new StringRedisSerializer().serialize("{\"merchant\":1}"), bytes);
+        Assert.assertEquals("{\"merchant\":1}", serializer.deserialize(bytes));
+    }
+
+    @Test
+    public void testValuesWrittenWithAnotherCodecAreRead() {
+        byte[] bytes = new CompressingRedisSerializer<>(new StringRedisSerializer(), CompressionCodec.DEFLATE, 0)
+                .serialize(LARGE_VALUE);
+        CompressingRedisSerializer<String> serializer =
+                new CompressingRedisSerializer<>(new StringRedisSerializer(), CompressionCodec.LZ4, 0);
+        Assert.assertEquals(LARGE_VALUE, serializer.deserialize(bytes));
+    }
+
+    @Test
+    public void testValueStartingWithMagicIsEscaped() {
+        CompressingRedisSerializer<byte[]> serializer =
+                new CompressingRedisSerializer<>(new IdentitySerializer(), CompressionCodec.LZ4, 1024);
+        byte[] raw = {CompressingRedisSerializer.MAGIC, 1, 2, 3};
+
+        byte[] bytes = serializer.serialize(raw);
+        Assert.assertEquals(raw.length + 2, bytes.length);
+        Assert.assertArrayEquals(raw, serializer.deserialize(bytes));
+    }
+
+    @Test(expected = SerializationException.class)
+    public void testTruncatedValueIsRejected() {
+        CompressingRedisSerializer<String> serializer =
+                new CompressingRedisSerializer<>(new StringRedisSerializer(), CompressionCodec.DEFLATE, 0);
+        byte[] bytes = serializer.serialize(LARGE_VALUE);
+        serializer.deserialize(Arrays.copyOf(bytes, bytes.length / 2));
+    }
+
+    private static String largeValue() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 2000; i++) {
+            builder.append("{\"merchantId\":").append(i).append(",\"status\":\"ACTIVE\",\"currency\":\"CNY\"},");
+        }
+        return builder.append("{}]").toString();
+    }
+
+    private static class IdentitySerializer implements RedisSerializer<byte[]> {
+
+        @Override
+        public byte[] serialize(byte[] value) {
+            return value;
+        }
+
+        @Override
+        public byte[] deserialize(byte[] bytes) {
+            return bytes;
+        }
+    }
+}